@@ -0,0 +1,142 @@
+package dusk.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dusk.gui.DialogBox;
+import dusk.gui.ProfilePicture;
+import dusk.ui.DuskResponseType;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+
+/**
+ * Compares building a {@link DialogBox} in code against loading the FXML layout it replaced.
+ * Bubbles are built on the JavaFX application thread in batches, so the hop to that thread is
+ * shared by many bubbles. Needs a display, since the JavaFX toolkit has to start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DialogBoxBenchmark {
+
+    private static final String LEGACY_FXML = "/view/LegacyDialogBox.fxml";
+    private static final String TEXT = "Got it. I've added this task:";
+    private static final int BATCH = 100;
+
+    /**
+     * Starts the JavaFX toolkit.
+     *
+     * @throws InterruptedException if interrupted while waiting for the toolkit.
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit is already running.
+            started.countDown();
+        }
+        if (!started.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The JavaFX toolkit did not start.");
+        }
+    }
+
+    /**
+     * Builds bubbles in code, as {@link DialogBox} does now.
+     *
+     * @return the last bubble built.
+     * @throws Exception if building fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object programmatic() throws Exception {
+        return onFxThread(() -> {
+            Object bubble = null;
+            for (int i = 0; i < BATCH; i++) {
+                bubble = DialogBox.getDuskDialog(TEXT, null, DuskResponseType.NORMAL);
+            }
+            return bubble;
+        });
+    }
+
+    /**
+     * Builds bubbles by loading the FXML layout, as {@link DialogBox} did before.
+     *
+     * @return the last bubble built.
+     * @throws Exception if building fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object fxml() throws Exception {
+        return onFxThread(() -> {
+            Object bubble = null;
+            for (int i = 0; i < BATCH; i++) {
+                bubble = loadLegacyBubble();
+            }
+            return bubble;
+        });
+    }
+
+    /**
+     * Builds a bubble the way DialogBox did before, by loading its FXML.
+     *
+     * @return the loaded bubble.
+     * @throws IOException if the layout cannot be loaded.
+     */
+    private HBox loadLegacyBubble() throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(LEGACY_FXML));
+        LegacyController controller = new LegacyController();
+        HBox root = new HBox();
+        loader.setController(controller);
+        loader.setRoot(root);
+        loader.load();
+        controller.dialog.setText(TEXT);
+        return root;
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread and waits for its result.
+     *
+     * @param task the task to run.
+     * @param <T>  the type of the result.
+     * @return the result of the task.
+     * @throws Exception if the task fails or does not finish in time.
+     */
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Controller for the legacy FXML layout.
+     */
+    public static class LegacyController {
+        @FXML
+        private Label dialog;
+        @FXML
+        private ProfilePicture profilePicture;
+    }
+}
@@ -0,0 +1,93 @@
+package dusk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dusk.Dusk;
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.ui.DuskResponse;
+import dusk.workspace.WorkspaceManager;
+
+/**
+ * Measures {@link Dusk#getResponse} end to end, from raw input to rendered response.
+ * Dusk reads and writes {@code data/data.txt} relative to the working directory,
+ * so the {@code jmh} task runs in a scratch directory under {@code build/}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuskBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Dusk dusk;
+
+    /**
+     * Seeds the data file with generated tasks and starts Dusk on it.
+     *
+     * @throws StorageException if the data file cannot be written or read.
+     */
+    @Setup
+    public void setUp() throws StorageException {
+        Storage storage = new Storage();
+        storage.saveTasks(SyntheticTasks.generate(size, SyntheticTasks.DEFAULT_SEED));
+        dusk = new Dusk(new WorkspaceManager(Storage.DEFAULT_DATA_FILE.getParent()));
+    }
+
+    /**
+     * Stops the background threads.
+     */
+    @TearDown
+    public void tearDown() {
+        dusk.close();
+    }
+
+    /**
+     * Runs a read-only keyword search against the latest snapshot.
+     *
+     * @return the response.
+     */
+    @Benchmark
+    public DuskResponse find() {
+        return dusk.getResponse("find " + SyntheticTasks.keyword());
+    }
+
+    /**
+     * Runs a read-only date search against the latest snapshot.
+     *
+     * @return the response.
+     */
+    @Benchmark
+    public DuskResponse listOnDate() {
+        return dusk.getResponse("list /on 2024-04-10 0000");
+    }
+
+    /**
+     * Runs a pair of mutations through the writer thread, each of which queues a save of the data file.
+     * The pair leaves the task list as it found it, apart from the first call if the first task starts out done.
+     *
+     * @return the second response.
+     */
+    @Benchmark
+    public DuskResponse markAndUnmark() {
+        dusk.getResponse("mark 1");
+        return dusk.getResponse("unmark 1");
+    }
+}
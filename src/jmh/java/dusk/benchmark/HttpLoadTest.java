@@ -0,0 +1,145 @@
+package dusk.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import dusk.Dusk;
+import dusk.metrics.LatencyHistogram;
+import dusk.server.DuskServer;
+import dusk.storage.StorageException;
+
+/**
+ * Drives the HTTP API with read-only requests from several threads over kept-alive connections,
+ * and reports the throughput and latency percentiles. Each thread sends its next request as soon
+ * as the previous one returns, so the result is the most the server sustains on this machine.
+ * Requests sent during an initial warm-up period are not counted.
+ *
+ * <p>By default an embedded server is started over {@code data/data.txt} in the working directory,
+ * which {@link WorkloadGenerator} can fill beforehand; {@code --url} targets a running instance instead,
+ * using the token given with {@code --token} or else the one in {@code data/server.token}:
+ * <pre>
+ *   --threads 16 --seconds 10 --warmup 5 --keyword book
+ *   --url http://localhost:8080 --token 3f9c... --threads 4
+ * </pre>
+ */
+public class HttpLoadTest {
+
+    private final HttpClient client;
+    private final List<HttpRequest> requests;
+    private final int threadCount;
+
+    /**
+     * Constructs a load test that cycles through the given requests.
+     *
+     * @param requests    the requests each thread sends in turn.
+     * @param threadCount the number of threads sending requests.
+     */
+    public HttpLoadTest(List<HttpRequest> requests, int threadCount) {
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.requests = requests;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sends requests until the duration has passed.
+     *
+     * @param durationNanos how long to send requests for.
+     * @param latencies     records the latency of each completed request.
+     * @param errors        counts requests that failed or did not return 200.
+     * @throws InterruptedException if interrupted while waiting for the threads.
+     */
+    public void run(long durationNanos, LatencyHistogram latencies, LongAdder errors) throws InterruptedException {
+        long end = System.nanoTime() + durationNanos;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int first = t;
+            Thread thread = new Thread(() -> {
+                for (int i = first; System.nanoTime() < end; i++) {
+                    HttpRequest request = requests.get(i % requests.size());
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.increment();
+                        }
+                    } catch (IOException e) {
+                        errors.increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    latencies.record(System.nanoTime() - start);
+                }
+            }, "dusk-load-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Runs a load test and prints the results.
+     *
+     * @param args options of the form {@code --name value}; see the class description.
+     * @throws IOException          if the embedded server cannot be started.
+     * @throws StorageException     if the tasks cannot be loaded.
+     * @throws InterruptedException if interrupted while running.
+     */
+    public static void main(String[] args) throws IOException, StorageException, InterruptedException {
+        Map<String, String> options = WorkloadGenerator.parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "10"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        String keyword = options.getOrDefault("keyword", SyntheticTasks.keyword());
+
+        Dusk dusk = null;
+        DuskServer server = null;
+        String url = options.get("url");
+        String token = options.get("token");
+        if (url == null) {
+            dusk = new Dusk();
+            server = new DuskServer(dusk, 0);
+            server.start();
+            url = "http://localhost:" + server.getPort();
+            token = server.getToken();
+        } else if (token == null) {
+            token = Files.readString(DuskServer.TOKEN_FILE).trim();
+        }
+        List<HttpRequest> requests = List.of(
+                HttpRequest.newBuilder(URI.create(url + "/tasks?q=" + keyword)).GET().build(),
+                HttpRequest.newBuilder(URI.create(url + "/command")).header(DuskServer.TOKEN_HEADER, token)
+                        .POST(HttpRequest.BodyPublishers.ofString("find " + keyword)).build(),
+                HttpRequest.newBuilder(URI.create(url + "/tasks?on=2024-03-20")).GET().build());
+
+        HttpLoadTest test = new HttpLoadTest(requests, threads);
+        test.run(TimeUnit.SECONDS.toNanos(warmupSeconds), new LatencyHistogram(), new LongAdder());
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        test.run(TimeUnit.SECONDS.toNanos(seconds), latencies, errors);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long completed = latencies.getCount();
+        System.out.printf("%d requests on %d threads in %.1f s: %.0f requests/s, %d errors%n",
+                completed, threads, elapsed, completed / elapsed, errors.sum());
+        System.out.printf("Latency ms: mean=%.3f p50=%.3f p99=%.3f p999=%.3f max=%.3f%n",
+                latencies.getMean() / 1e6, latencies.getPercentile(0.50) / 1e6, latencies.getPercentile(0.99) / 1e6,
+                latencies.getPercentile(0.999) / 1e6, latencies.getMax() / 1e6);
+
+        if (server != null) {
+            server.stop();
+            dusk.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package dusk.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dusk.command.Command;
+import dusk.command.CommandJournal;
+import dusk.command.InputException;
+import dusk.command.Parser;
+import dusk.storage.Storage;
+import dusk.task.TaskList;
+import dusk.ui.DuskIO;
+
+/**
+ * Measures {@link Parser#parse} for each kind of command. Commands are only parsed, never executed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry("todo", "todo read book"),
+            Map.entry("deadline", "deadline submit report /by 2024-03-20 1400"),
+            Map.entry("deadline-relative", "deadline submit report /by next fri 1400"),
+            Map.entry("event", "event team meeting /from 2024-03-20 1400 /to 2024-03-20 1500"),
+            Map.entry("list", "list /from 2024-03-01 0000 /to 2024-03-31 2359"),
+            Map.entry("find", "find book"),
+            Map.entry("mark", "mark 1"),
+            Map.entry("delete", "delete 1"),
+            Map.entry("undo", "undo 2"));
+
+    @Param({"todo", "deadline", "deadline-relative", "event", "list", "find", "mark", "delete", "undo"})
+    private String command;
+
+    private String input;
+    private TaskList tasks;
+    private Storage storage;
+    private CommandJournal journal;
+    private DuskIO duskIO;
+
+    /**
+     * Creates the task list and I/O the parsed commands would act on.
+     */
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(command);
+        tasks = SyntheticTasks.generate(1_000, SyntheticTasks.DEFAULT_SEED);
+        storage = new Storage();
+        journal = new CommandJournal();
+        duskIO = DuskIO.forResponse();
+    }
+
+    /**
+     * Releases the response buffer.
+     *
+     * @throws Exception if closing fails.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        duskIO.close();
+    }
+
+    /**
+     * Parses one command.
+     *
+     * @return the parsed command.
+     * @throws InputException if the input is invalid.
+     */
+    @Benchmark
+    public Command parse() throws InputException {
+        return Parser.parse(duskIO, storage, tasks, journal, input);
+    }
+}
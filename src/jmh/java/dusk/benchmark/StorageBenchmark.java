@@ -0,0 +1,96 @@
+package dusk.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.task.TaskList;
+
+/**
+ * Measures saving and loading the data file as it grows.
+ * The file lives in a temporary directory, never in the user's data directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+
+    /**
+     * Creates a storage backed by a temporary file, already holding the generated tasks.
+     *
+     * @throws IOException      if the temporary directory cannot be created.
+     * @throws StorageException if the tasks cannot be saved.
+     */
+    @Setup
+    public void setUp() throws IOException, StorageException {
+        directory = Files.createTempDirectory("dusk-storage-benchmark");
+        Path dataFile = directory.resolve("data.txt");
+        storage = new Storage() {
+            @Override
+            protected Path getDataFile() {
+                return dataFile;
+            }
+        };
+        tasks = SyntheticTasks.generate(size, SyntheticTasks.DEFAULT_SEED);
+        storage.saveTasks(tasks);
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException if the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("data.txt"));
+        Files.deleteIfExists(directory);
+        storage.shutdownExecutor();
+    }
+
+    /**
+     * Rewrites the whole data file.
+     *
+     * @throws StorageException if the tasks cannot be saved.
+     */
+    @Benchmark
+    public void save() throws StorageException {
+        storage.saveTasks(tasks);
+    }
+
+    /**
+     * Reads and parses the whole data file.
+     *
+     * @return the loaded tasks.
+     * @throws StorageException if the tasks cannot be loaded.
+     */
+    @Benchmark
+    public TaskList load() throws StorageException {
+        return storage.loadTasks();
+    }
+}
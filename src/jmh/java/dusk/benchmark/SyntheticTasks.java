@@ -0,0 +1,42 @@
+package dusk.benchmark;
+
+import java.time.LocalDateTime;
+
+import dusk.task.TaskList;
+
+/**
+ * Generates reproducible task lists for benchmarks.
+ * The same size and seed always produce the same tasks, so results can be compared across runs.
+ */
+public final class SyntheticTasks {
+
+    /** The seed used by benchmarks unless they need several independent datasets. */
+    public static final long DEFAULT_SEED = 42L;
+
+    /** The earliest date given to a deadline or event; all dates fall within the following year. */
+    public static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private SyntheticTasks() {
+    }
+
+    /**
+     * Generates a task list with roughly equal numbers of todos, deadlines and events,
+     * about a third of which are marked as done.
+     *
+     * @param size the number of tasks.
+     * @param seed the random seed.
+     * @return the generated tasks.
+     */
+    public static TaskList generate(int size, long seed) {
+        return new WorkloadGenerator(seed).generateTasks(size);
+    }
+
+    /**
+     * Returns a keyword that occurs in some, but not all, generated descriptions.
+     *
+     * @return the keyword.
+     */
+    public static String keyword() {
+        return "book";
+    }
+}
@@ -0,0 +1,77 @@
+package dusk.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dusk.task.TaskList;
+
+/**
+ * Measures {@link TaskList#search} by keyword, by date and by date range as the list grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskListSearchBenchmark {
+
+    private static final LocalDateTime ON_DATE = SyntheticTasks.START.plusDays(100);
+    private static final LocalDateTime FROM_DATE = SyntheticTasks.START.plusDays(100);
+    private static final LocalDateTime TO_DATE = SyntheticTasks.START.plusDays(107);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private TaskList tasks;
+
+    /**
+     * Generates the tasks to search.
+     */
+    @Setup
+    public void setUp() {
+        tasks = SyntheticTasks.generate(size, SyntheticTasks.DEFAULT_SEED);
+    }
+
+    /**
+     * Searches by keyword, as {@code find} does.
+     *
+     * @return the matching tasks.
+     */
+    @Benchmark
+    public TaskList keyword() {
+        return tasks.search(SyntheticTasks.keyword(), null, null, null);
+    }
+
+    /**
+     * Searches for tasks on one day, as {@code list /on} does.
+     *
+     * @return the matching tasks.
+     */
+    @Benchmark
+    public TaskList onDate() {
+        return tasks.search(null, ON_DATE, null, null);
+    }
+
+    /**
+     * Searches for tasks within a week, as {@code list /from /to} does.
+     *
+     * @return the matching tasks.
+     */
+    @Benchmark
+    public TaskList range() {
+        return tasks.search(null, null, FROM_DATE, TO_DATE);
+    }
+}
@@ -0,0 +1,241 @@
+package dusk.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import dusk.Dusk;
+import dusk.gui.ChatMessage;
+import dusk.storage.ChatHistory;
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.ui.DuskResponseType;
+
+/**
+ * Replays a command trace through {@link Dusk#getResponse} at a target rate from several threads,
+ * and reports latency percentiles per command type and the bytes written to the data file.
+ *
+ * <p>Dusk works on {@code data/data.txt} in the working directory, which {@link WorkloadGenerator}
+ * can fill beforehand. The trace is either a text file with one command per line ({@code #} starts
+ * a comment) or the commands the user typed, taken from a recorded chat history:
+ * <pre>
+ *   --trace trace.txt --rate 500 --threads 4
+ *   --history data --rate 50 --threads 1
+ * </pre>
+ *
+ * <p>Commands are scheduled at fixed intervals regardless of how long earlier commands take,
+ * and latency is measured from the scheduled start. A slow command therefore shows up in the
+ * latency of the commands queued behind it, as it would for users, instead of quietly lowering the rate.
+ */
+public class TraceReplay {
+
+    private static final double[] PERCENTILES = {0.50, 0.99, 0.999};
+
+    private final Dusk dusk;
+    private final List<String> commands;
+    private final double rate;
+    private final int threadCount;
+
+    /**
+     * Constructs a replay of the given commands.
+     *
+     * @param dusk        the Dusk instance to send commands to.
+     * @param commands    the commands, in the order they are scheduled.
+     * @param rate        the target number of commands per second across all threads.
+     * @param threadCount the number of threads sending commands.
+     */
+    public TraceReplay(Dusk dusk, List<String> commands, double rate, int threadCount) {
+        if (rate <= 0 || threadCount <= 0) {
+            throw new IllegalArgumentException("The rate and thread count must be positive.");
+        }
+        this.dusk = dusk;
+        this.commands = commands;
+        this.rate = rate;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Replays every command and waits for the last one to finish.
+     *
+     * @return the latencies in nanoseconds, by command type.
+     * @throws InterruptedException if interrupted while waiting for the threads.
+     */
+    public Map<String, long[]> run() throws InterruptedException {
+        long intervalNanos = (long) (1e9 / rate);
+        long start = System.nanoTime();
+        List<Map<String, LatencyLog>> logs = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int first = t;
+            Map<String, LatencyLog> log = new HashMap<>();
+            logs.add(log);
+            Thread thread = new Thread(() -> {
+                // Thread t sends commands t, t + threadCount, ..., keeping the global schedule.
+                for (int i = first; i < commands.size(); i += threadCount) {
+                    long scheduled = start + i * intervalNanos;
+                    long delay = scheduled - System.nanoTime();
+                    if (delay > 0) {
+                        LockSupport.parkNanos(delay);
+                    }
+                    String command = commands.get(i);
+                    DuskResponseType type = dusk.getResponse(command).getType();
+                    String key = commandType(command) + (type == DuskResponseType.NORMAL ? "" : " (error)");
+                    log.computeIfAbsent(key, k -> new LatencyLog()).add(System.nanoTime() - scheduled);
+                }
+            }, "dusk-replay-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<String, long[]> merged = new TreeMap<>();
+        for (Map<String, LatencyLog> log : logs) {
+            log.forEach((key, latencies) -> merged.merge(key, latencies.toArray(), TraceReplay::concat));
+        }
+        merged.values().forEach(Arrays::sort);
+        return merged;
+    }
+
+    /**
+     * Replays a trace and prints a latency report.
+     *
+     * @param args options of the form {@code --name value}; see the class description.
+     * @throws IOException          if the trace cannot be read.
+     * @throws StorageException     if the tasks or history cannot be loaded.
+     * @throws InterruptedException if interrupted while replaying.
+     */
+    public static void main(String[] args) throws IOException, StorageException, InterruptedException {
+        Map<String, String> options = WorkloadGenerator.parseOptions(args);
+        List<String> commands = options.containsKey("history")
+                ? readHistory(Paths.get(options.get("history")))
+                : readTrace(Paths.get(options.getOrDefault("trace", "trace.txt")));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+
+        Dusk dusk = new Dusk();
+        long bytesBefore = Storage.getBytesWritten();
+        long start = System.nanoTime();
+        Map<String, long[]> latencies = new TraceReplay(dusk, commands, rate, threads).run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        // Saves run in order on the storage thread, so a load queued behind them finishes last.
+        dusk.getStorage().loadTasksAsync().join();
+        long bytesWritten = Storage.getBytesWritten() - bytesBefore;
+
+        System.out.printf("Replayed %d commands on %d threads in %.1f s (%.0f/s, target %.0f/s)%n",
+                commands.size(), threads, seconds, commands.size() / seconds, rate);
+        System.out.printf("%-20s %9s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p99 ms", "p999 ms",
+                "max ms");
+        latencies.forEach((type, sorted) -> {
+            System.out.printf("%-20s %9d", type, sorted.length);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %10.3f", percentile(sorted, percentile) / 1e6);
+            }
+            System.out.printf(" %10.3f%n", sorted[sorted.length - 1] / 1e6);
+        });
+        System.out.printf("Storage bytes written: %d (%.1f per command)%n", bytesWritten,
+                (double) bytesWritten / Math.max(1, commands.size()));
+
+        dusk.close();
+    }
+
+    /**
+     * Reads a trace file, skipping blank lines and comments.
+     *
+     * @param traceFile the trace file.
+     * @return the commands.
+     * @throws IOException if the file cannot be read.
+     */
+    static List<String> readTrace(Path traceFile) throws IOException {
+        return Files.readAllLines(traceFile, StandardCharsets.UTF_8).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the commands the user typed from a recorded chat history.
+     *
+     * @param directory the directory holding {@code history.log} and {@code history.idx}.
+     * @return the commands, oldest first.
+     * @throws StorageException if the history cannot be read.
+     * @throws IOException      if the history cannot be closed.
+     */
+    static List<String> readHistory(Path directory) throws StorageException, IOException {
+        byte userKind = (byte) ChatMessage.Sender.USER.ordinal();
+        try (ChatHistory history = new ChatHistory(directory.resolve("history.log"),
+                directory.resolve("history.idx"))) {
+            return history.read(0, (int) Math.min(Integer.MAX_VALUE, history.size())).stream()
+                    .filter(entry -> entry.getKind() == userKind)
+                    .map(ChatHistory.Entry::getText)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the type of a command, which is its first word.
+     *
+     * @param command the command.
+     * @return the command type, in lower case.
+     */
+    static String commandType(String command) {
+        String trimmed = command.trim();
+        int space = trimmed.indexOf(' ');
+        return (space < 0 ? trimmed : trimmed.substring(0, space)).toLowerCase();
+    }
+
+    /**
+     * Returns a percentile of sorted values, using the nearest-rank method.
+     *
+     * @param sorted     the values, in ascending order; must not be empty.
+     * @param percentile the percentile, between 0 and 1.
+     * @return the value at that percentile.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Concatenates two arrays.
+     *
+     * @param first  the first array.
+     * @param second the second array.
+     * @return a new array holding the elements of both.
+     */
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * A growable array of latencies, owned by one thread.
+     */
+    private static class LatencyLog {
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
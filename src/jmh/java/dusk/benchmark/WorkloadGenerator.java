@@ -0,0 +1,367 @@
+package dusk.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+
+/**
+ * Generates realistic task files and command traces for load testing.
+ * The mix of task kinds, the spread of dates, the length of descriptions and the mix of commands
+ * are all configurable, and the same seed always produces the same output.
+ *
+ * <p>Run from the command line to write a {@code data.txt} and, optionally, a trace for {@link TraceReplay}:
+ * <pre>
+ *   --tasks 10000 --kinds 50,30,20 --days 365 --dates clustered --words 2-6 --seed 42
+ *   --out data/data.txt --trace trace.txt --commands 100000 --command-mix find:40,list:10,todo:20,mark:20,delete:10
+ * </pre>
+ */
+public class WorkloadGenerator {
+
+    /** How deadline and event dates are spread over the configured span. */
+    public enum DateSpread {
+        /** Every day in the span is equally likely. */
+        UNIFORM,
+        /** Dates are normally distributed around the middle of the span, like a busy term. */
+        CLUSTERED
+    }
+
+    private static final String[] VERBS = {
+        "read", "write", "buy", "return", "call", "review", "submit", "plan", "clean", "fix",
+    };
+    private static final String[] NOUNS = {
+        "book", "report", "groceries", "library card", "mum", "pull request", "assignment",
+        "trip", "room", "bike", "slides", "taxes", "meeting notes", "laptop", "garden",
+    };
+    private static final String[] FILLERS = {
+        "before", "after", "with", "for", "the", "team", "quickly", "again", "weekly", "urgent",
+    };
+    private static final DateTimeFormatter COMMAND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Random random;
+    private int[] kindWeights = {1, 1, 1};
+    private int spanDays = 365;
+    private DateSpread dateSpread = DateSpread.UNIFORM;
+    private int minWords = 2;
+    private int maxWords = 2;
+    private Map<String, Integer> commandWeights = parseWeights("find:40,list:10,todo:15,deadline:5,event:5,"
+            + "mark:10,unmark:5,delete:5,undo:5");
+
+    /**
+     * Constructs a generator with the default configuration.
+     *
+     * @param seed the random seed.
+     */
+    public WorkloadGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Sets the relative weights of todos, deadlines and events.
+     *
+     * @param todo     the weight of todos.
+     * @param deadline the weight of deadlines.
+     * @param event    the weight of events.
+     * @return this generator.
+     */
+    public WorkloadGenerator setKindWeights(int todo, int deadline, int event) {
+        if (todo < 0 || deadline < 0 || event < 0 || todo + deadline + event == 0) {
+            throw new IllegalArgumentException("Task kind weights must be non-negative and not all zero.");
+        }
+        this.kindWeights = new int[] {todo, deadline, event};
+        return this;
+    }
+
+    /**
+     * Sets how dates are spread over the given number of days from {@link SyntheticTasks#START}.
+     *
+     * @param spanDays the number of days dates may fall within.
+     * @param spread   the distribution of dates within the span.
+     * @return this generator.
+     */
+    public WorkloadGenerator setDates(int spanDays, DateSpread spread) {
+        if (spanDays <= 0) {
+            throw new IllegalArgumentException("The date span must be at least one day.");
+        }
+        this.spanDays = spanDays;
+        this.dateSpread = spread;
+        return this;
+    }
+
+    /**
+     * Sets the range of description lengths, in words.
+     *
+     * @param min the fewest words.
+     * @param max the most words.
+     * @return this generator.
+     */
+    public WorkloadGenerator setDescriptionWords(int min, int max) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Description lengths must satisfy 1 <= min <= max.");
+        }
+        this.minWords = min;
+        this.maxWords = max;
+        return this;
+    }
+
+    /**
+     * Sets the relative weights of commands in generated traces.
+     *
+     * @param weights the weight of each command word, e.g. {@code find:40,todo:20}.
+     * @return this generator.
+     */
+    public WorkloadGenerator setCommandWeights(String weights) {
+        this.commandWeights = parseWeights(weights);
+        return this;
+    }
+
+    /**
+     * Generates a task list, about a third of which is marked as done.
+     *
+     * @param count the number of tasks.
+     * @return the generated tasks.
+     */
+    public TaskList generateTasks(int count) {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < count; i++) {
+            Task task = createTask(i);
+            if (random.nextInt(3) == 0) {
+                task.markDone();
+            }
+            tasks.addTask(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Generates a trace of commands to replay against a task list of the given size.
+     * Task numbers in the trace stay within the list as it grows and shrinks.
+     *
+     * @param count       the number of commands.
+     * @param initialSize the number of tasks before the first command.
+     * @return the commands, in order.
+     */
+    public List<String> generateTrace(int count, int initialSize) {
+        List<String> commands = new ArrayList<>(count);
+        int size = initialSize;
+        int total = commandWeights.values().stream().mapToInt(Integer::intValue).sum();
+        for (int i = 0; i < count; i++) {
+            String command = pickCommand(total);
+            // Commands that need a task fall back to adding one when the list is empty.
+            if (size == 0 && (command.equals("mark") || command.equals("unmark") || command.equals("delete"))) {
+                command = "todo";
+            }
+            commands.add(createCommand(command, size, i));
+            if (command.equals("todo") || command.equals("deadline") || command.equals("event")) {
+                size++;
+            } else if (command.equals("delete")) {
+                size--;
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Generates a data file and, if requested, a command trace.
+     *
+     * @param args options of the form {@code --name value}; see the class description.
+     * @throws IOException      if the trace cannot be written.
+     * @throws StorageException if the data file cannot be written.
+     */
+    public static void main(String[] args) throws IOException, StorageException {
+        Map<String, String> options = parseOptions(args);
+        WorkloadGenerator generator = new WorkloadGenerator(Long.parseLong(options.getOrDefault("seed", "42")));
+        String[] kinds = options.getOrDefault("kinds", "1,1,1").split(",");
+        if (kinds.length != 3) {
+            throw new IllegalArgumentException("--kinds takes three weights: todo,deadline,event");
+        }
+        generator.setKindWeights(Integer.parseInt(kinds[0].trim()), Integer.parseInt(kinds[1].trim()),
+                Integer.parseInt(kinds[2].trim()));
+        generator.setDates(Integer.parseInt(options.getOrDefault("days", "365")),
+                DateSpread.valueOf(options.getOrDefault("dates", "uniform").toUpperCase()));
+        String[] words = options.getOrDefault("words", "2-2").split("-");
+        generator.setDescriptionWords(Integer.parseInt(words[0].trim()),
+                Integer.parseInt(words[words.length - 1].trim()));
+        if (options.containsKey("command-mix")) {
+            generator.setCommandWeights(options.get("command-mix"));
+        }
+
+        int taskCount = Integer.parseInt(options.getOrDefault("tasks", "10000"));
+        Path dataFile = Paths.get(options.getOrDefault("out", "data/data.txt"));
+        Storage storage = new Storage() {
+            @Override
+            protected Path getDataFile() {
+                return dataFile;
+            }
+        };
+        storage.saveTasks(generator.generateTasks(taskCount));
+        storage.shutdownExecutor();
+        System.out.printf("Wrote %d tasks (%d bytes) to %s%n", taskCount, Files.size(dataFile), dataFile);
+
+        if (options.containsKey("trace")) {
+            int commandCount = Integer.parseInt(options.getOrDefault("commands", "10000"));
+            Path traceFile = Paths.get(options.get("trace"));
+            Files.write(traceFile, generator.generateTrace(commandCount, taskCount), StandardCharsets.UTF_8);
+            System.out.printf("Wrote %d commands to %s%n", commandCount, traceFile);
+        }
+    }
+
+    /**
+     * Parses options of the form {@code --name value}.
+     *
+     * @param args the command line arguments.
+     * @return the option values by name, without the leading dashes.
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value but got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Parses weights of the form {@code name:weight,name:weight}.
+     *
+     * @param weights the weights to parse.
+     * @return the weight of each name, in the order given.
+     */
+    private static Map<String, Integer> parseWeights(String weights) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for (String entry : weights.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || Integer.parseInt(parts[1].trim()) < 0) {
+                throw new IllegalArgumentException("Expected name:weight but got: " + entry);
+            }
+            parsed.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        if (parsed.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Command weights must not all be zero.");
+        }
+        return parsed;
+    }
+
+    /**
+     * Picks a command word according to the configured weights.
+     *
+     * @param total the sum of all weights.
+     * @return the command word.
+     */
+    private String pickCommand(int total) {
+        int roll = random.nextInt(total);
+        for (Map.Entry<String, Integer> entry : commandWeights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable: roll exceeds total weight");
+    }
+
+    /**
+     * Creates the full text of a command.
+     *
+     * @param command the command word.
+     * @param size    the number of tasks the command may refer to.
+     * @param index   the position of the command in the trace.
+     * @return the command text.
+     */
+    private String createCommand(String command, int size, int index) {
+        return switch (command) {
+            case "todo" -> "todo " + createDescription(index);
+            case "deadline" -> "deadline " + createDescription(index) + " /by " + format(createDate());
+            case "event" -> {
+                LocalDateTime from = createDate();
+                yield "event " + createDescription(index) + " /from " + format(from)
+                        + " /to " + format(from.plusHours(1 + random.nextInt(48)));
+            }
+            case "find" -> "find " + NOUNS[random.nextInt(NOUNS.length)];
+            case "list" -> random.nextBoolean() ? "list" : "list /on " + format(createDate());
+            case "mark", "unmark", "delete" -> command + " " + (1 + random.nextInt(size));
+            default -> command;
+        };
+    }
+
+    /**
+     * Creates one task of a kind chosen by the configured weights.
+     *
+     * @param index the position of the task, included in the description to keep descriptions distinct.
+     * @return the task.
+     */
+    private Task createTask(int index) {
+        String description = createDescription(index);
+        int roll = random.nextInt(kindWeights[0] + kindWeights[1] + kindWeights[2]);
+        if (roll < kindWeights[0]) {
+            return new Todo(description);
+        }
+        LocalDateTime date = createDate();
+        if (roll < kindWeights[0] + kindWeights[1]) {
+            return new Deadline(description, date);
+        }
+        return new Event(description, date, date.plusHours(1 + random.nextInt(48)));
+    }
+
+    /**
+     * Creates a description of a verb and a noun, padded with filler words to the chosen length.
+     *
+     * @param index a number appended to keep descriptions distinct.
+     * @return the description.
+     */
+    private String createDescription(int index) {
+        StringBuilder description = new StringBuilder()
+                .append(VERBS[random.nextInt(VERBS.length)]).append(' ')
+                .append(NOUNS[random.nextInt(NOUNS.length)]);
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        for (int i = 2; i < words; i++) {
+            description.append(' ').append(FILLERS[random.nextInt(FILLERS.length)]);
+        }
+        return description.append(" #").append(index).toString();
+    }
+
+    /**
+     * Creates a date within the configured span, to the minute.
+     *
+     * @return the date.
+     */
+    private LocalDateTime createDate() {
+        int spanMinutes = spanDays * MINUTES_PER_DAY;
+        int minute;
+        if (dateSpread == DateSpread.CLUSTERED) {
+            double offset = spanMinutes / 2.0 + random.nextGaussian() * spanMinutes / 6.0;
+            minute = (int) Math.min(spanMinutes - 1, Math.max(0, offset));
+        } else {
+            minute = random.nextInt(spanMinutes);
+        }
+        return SyntheticTasks.START.plusMinutes(minute);
+    }
+
+    /**
+     * Formats a date the way a user would type it.
+     *
+     * @param date the date.
+     * @return the formatted date.
+     */
+    private static String format(LocalDateTime date) {
+        return date.format(COMMAND_FORMATTER);
+    }
+}
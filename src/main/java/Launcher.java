@@ -1,4 +1,5 @@
 import dusk.Main;
+import dusk.logging.AsyncLogHandler;
 import javafx.application.Application;
 
 /**
@@ -8,10 +9,12 @@ public class Launcher {
 
     /**
      * The main entry point for the application.
+     * Logging is switched to a background thread first, so that nothing logged later blocks the UI.
      *
      * @param args command line arguments.
      */
     public static void main(String[] args) {
+        AsyncLogHandler.install();
         Application.launch(Main.class, args);
     }
 }
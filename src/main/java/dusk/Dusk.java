@@ -1,28 +1,49 @@
 package dusk;
 
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import dusk.command.Command;
+import dusk.command.CommandExecutor;
 import dusk.command.InputException;
 import dusk.command.Parser;
+import dusk.command.WorkspaceSwitcher;
+import dusk.diagnostics.CommandEvent;
+import dusk.metrics.LatencyHistogram;
+import dusk.metrics.Metrics;
 import dusk.storage.Storage;
 import dusk.storage.StorageException;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.Task;
 import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.TaskListListener;
+import dusk.task.Todo;
 import dusk.ui.DuskIO;
 import dusk.ui.DuskResponse;
 import dusk.ui.DuskResponseType;
+import dusk.workspace.Workspace;
+import dusk.workspace.WorkspaceManager;
 
 /**
  * The main application class for Dusk. This class is responsible for initializing tasks,
  * managing user commands, and handling responses.
+ * Commands apply to the current workspace, which {@code use <name>} switches between; each workspace
+ * has its own task list, data file, writer thread and undo history. Instances over different data
+ * directories can run side by side without sharing a lock.
  */
-public class Dusk {
+public class Dusk implements AutoCloseable, WorkspaceSwitcher {
 
     /** Greeting messages displayed upon application launch. */
     public static final String[] GREETING_MESSAGES = {
@@ -34,16 +55,134 @@ public class Dusk {
     public static final String FAREWELL_MESSAGE = "See ya! Hope to see you again soon! :3";
 
     private static final Logger LOGGER = Logger.getLogger(Dusk.class.getName());
-    private static final Storage STORAGE = new Storage();
-    private static TaskList taskList;
+    private static final Metrics METRICS = Metrics.getInstance();
+    private static final LatencyHistogram PARSE_LATENCY = METRICS.histogram("command.parse");
+    private static final LatencyHistogram EXECUTE_LATENCY = METRICS.histogram("command.execute");
+    private static final Map<String, LongAdder> COMMAND_COUNTS = commandCounters();
+    private static final LongAdder INVALID_COMMANDS = METRICS.counter("command.invalid");
+    private static final LongAdder COMMAND_ERRORS = METRICS.counter("command.errors");
+    private static final List<Class<? extends Task>> TASK_KINDS = List.of(Todo.class, Deadline.class, Event.class);
+
+    private final WorkspaceManager workspaces;
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
+    // Guards switching workspaces and moving listeners; never taken on a writer thread.
+    private final Object switchLock = new Object();
+    private final AtomicBoolean isFirstCommand = new AtomicBoolean(true);
+    private volatile Workspace current;
+    // The task counts of the latest snapshot read, shared by the task gauges.
+    private volatile TaskCounts taskCounts;
 
     /**
-     * Constructs a new Dusk instance and loads the task list from storage.
+     * Constructs the application's Dusk instance on the default data directory, loads the default
+     * workspace and publishes its metrics. Other workspaces are loaded when first used.
      *
      * @throws StorageException if an error occurs during task loading.
      */
     public Dusk() throws StorageException {
-        loadTasksFromStorage();
+        this(new WorkspaceManager(Storage.DEFAULT_DATA_FILE.getParent()));
+        registerMetrics();
+    }
+
+    /**
+     * Constructs a Dusk instance over the given workspaces and loads the default workspace.
+     * Its gauges are not published, since they would replace those of other instances.
+     *
+     * @param workspaces the workspaces this instance switches between, which it closes when closed.
+     * @throws StorageException if an error occurs during task loading.
+     */
+    public Dusk(WorkspaceManager workspaces) throws StorageException {
+        this.workspaces = workspaces;
+        this.current = workspaces.activate(WorkspaceManager.DEFAULT_WORKSPACE);
+        // The active workspace is never evicted, so it need not stay held between commands.
+        current.release();
+    }
+
+    /**
+     * Looks up the counter of each command word once, so counting a command needs no string building.
+     *
+     * @return the counters, keyed by command word.
+     */
+    private static Map<String, LongAdder> commandCounters() {
+        Map<String, LongAdder> counters = new HashMap<>();
+        for (String commandWord : Parser.COMMAND_WORDS) {
+            counters.put(commandWord, METRICS.counter("command." + commandWord));
+        }
+        return Map.copyOf(counters);
+    }
+
+    /**
+     * Registers gauges reading the current workspace and the loaded workspaces,
+     * and exports the metrics over JMX.
+     */
+    private void registerMetrics() {
+        METRICS.gauge("executor.queueDepth", () -> getExecutor().getQueueDepth());
+        METRICS.gauge("executor.completed", () -> getExecutor().getCompletedCount());
+        METRICS.gauge("executor.maxWaitMicros", () -> Math.round(getExecutor().getMaxWaitMillis() * 1000));
+        METRICS.gauge("workspace.loaded", () -> workspaces.getLoadedNames().size());
+        METRICS.gauge("workspace.estimatedBytes", workspaces::getEstimatedBytes);
+        for (int i = 0; i < TASK_KINDS.size(); i++) {
+            int kind = i;
+            String name = "tasks." + TASK_KINDS.get(kind).getSimpleName().toLowerCase();
+            METRICS.gauge(name + ".done", () -> countTasks().get(kind, true));
+            METRICS.gauge(name + ".pending", () -> countTasks().get(kind, false));
+        }
+        // Loading the JMX classes takes a while; keep it off the startup path.
+        CompletableFuture.runAsync(Metrics::registerMBean);
+    }
+
+    /**
+     * Returns the task counts of the latest snapshot, counting them only if the snapshot has changed
+     * since they were last counted, so reading all six task gauges takes a single pass over the tasks.
+     *
+     * @return the task counts.
+     */
+    private TaskCounts countTasks() {
+        TaskList snapshot = getExecutor().getSnapshot();
+        TaskCounts counts = taskCounts;
+        if (counts == null || counts.snapshot != snapshot) {
+            counts = new TaskCounts(snapshot);
+            taskCounts = counts;
+        }
+        return counts;
+    }
+
+    /**
+     * The number of tasks of each kind and done state in one snapshot.
+     */
+    private static class TaskCounts {
+        private final TaskList snapshot;
+        private final long[] counts = new long[TASK_KINDS.size() * 2];
+
+        /**
+         * Counts the tasks in a snapshot.
+         *
+         * @param snapshot the snapshot, which must not be modified.
+         */
+        TaskCounts(TaskList snapshot) {
+            this.snapshot = snapshot;
+            try {
+                for (int i = 0; i < snapshot.size(); i++) {
+                    Task task = snapshot.getTask(i);
+                    int kind = TASK_KINDS.indexOf(task.getClass());
+                    if (kind >= 0) {
+                        counts[kind * 2 + (task.getDone() ? 1 : 0)]++;
+                    }
+                }
+            } catch (TaskListException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Returns the number of tasks of one kind and done state.
+         *
+         * @param kind   the index of the kind in {@code TASK_KINDS}.
+         * @param isDone the done state.
+         * @return the number of matching tasks.
+         */
+        long get(int kind, boolean isDone) {
+            return counts[kind * 2 + (isDone ? 1 : 0)];
+        }
     }
 
     /**
@@ -57,50 +196,275 @@ public class Dusk {
     }
 
     /**
-     * Loads tasks asynchronously from storage.
+     * Processes the user input and returns the corresponding response.
+     * Commands that modify the task list are applied in order on the current workspace's writer thread;
+     * read-only commands run on the calling thread against its latest snapshot.
+     * The latency of the first command is logged, so the effect of {@link Warmup} can be measured.
      *
-     * @throws StorageException if there is an error loading tasks.
+     * @param input the user's input command.
+     * @return a DuskResponse based on the command execution.
      */
-    private void loadTasksFromStorage() throws StorageException {
-        CompletableFuture<TaskList> loadFuture = STORAGE.loadTasksAsync();
+    public DuskResponse getResponse(String input) {
+        if (!isFirstCommand.compareAndSet(true, false)) {
+            return respond(input);
+        }
+        long start = System.nanoTime();
+        DuskResponse response = respond(input);
+        LOGGER.info(String.format("First command took %.1f ms (warm-up %s)",
+                (System.nanoTime() - start) / 1e6, Warmup.isEnabled() ? "on" : "off"));
+        return response;
+    }
+
+    /**
+     * Routes the user input to the snapshot or the writer thread and returns the response.
+     *
+     * @param input the user's input command.
+     * @return a DuskResponse based on the command execution.
+     */
+    private DuskResponse respond(String input) {
+        if ("use".equals(Parser.getCommandWord(input))) {
+            // Switching waits on writer threads, so it runs here rather than on one.
+            synchronized (switchLock) {
+                Workspace workspace = current;
+                return execute(input, workspace, workspace.getExecutor().getSnapshot());
+            }
+        }
+        Workspace workspace = holdCurrent();
         try {
-            taskList = loadFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.log(Level.SEVERE, "Error loading tasks asynchronously.", e);
+            if (Parser.isReadOnly(input)) {
+                return execute(input, workspace, workspace.getExecutor().getSnapshot());
+            }
+            return workspace.getExecutor().submit(() -> execute(input, workspace, workspace.getTasks()));
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new StorageException("Failed to load tasks: " + e.getMessage());
-        } catch (CompletionException e) {
-            LOGGER.log(Level.SEVERE, e.getMessage());
-            throw new StorageException("Failed to complete task loading: " + e.getMessage());
+            return systemError(e);
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Unexpected error", e.getCause());
+            return systemError(e.getCause());
+        } finally {
+            workspace.release();
         }
     }
 
     /**
-     * Processes the user input and returns the corresponding response.
+     * Holds the current workspace so that it is not evicted while a command runs against it.
      *
-     * @param input the user's input command.
+     * @return the held workspace, which the caller must release.
+     */
+    private Workspace holdCurrent() {
+        while (true) {
+            Workspace workspace = current;
+            if (workspaces.hold(workspace)) {
+                return workspace;
+            }
+            // Switched away from and evicted since it was read; the new current one is active.
+        }
+    }
+
+    @Override
+    public String getCurrentWorkspace() {
+        return current.getName();
+    }
+
+    /**
+     * Switches to the named workspace, loading it if it is not in memory, and moves the task list
+     * listeners to it. Each listener is told the new workspace's tasks through
+     * {@link TaskListListener#onTasksReplaced(TaskList)}.
+     *
+     * @param name the workspace to switch to.
+     * @return the number of tasks in the workspace.
+     * @throws StorageException if the workspace cannot be loaded.
+     */
+    @Override
+    public int useWorkspace(String name) throws StorageException {
+        synchronized (switchLock) {
+            Workspace previous = holdCurrent();
+            try {
+                if (previous.getName().equals(name)) {
+                    return previous.getExecutor().getSnapshot().size();
+                }
+                Workspace next = workspaces.activate(name);
+                try {
+                    moveListeners(previous, next);
+                    current = next;
+                    return next.getExecutor().getSnapshot().size();
+                } finally {
+                    next.release();
+                }
+            } finally {
+                previous.release();
+            }
+        }
+    }
+
+    /**
+     * Removes the registered listeners from one workspace's task list and adds them to another's,
+     * each on the owning writer thread.
+     *
+     * @param from the workspace being left.
+     * @param to   the workspace being entered.
+     * @throws StorageException if interrupted while waiting for a writer thread.
+     */
+    private void moveListeners(Workspace from, Workspace to) throws StorageException {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        try {
+            from.getExecutor().submit(() -> {
+                listeners.forEach(from.getTasks()::removeListener);
+                return null;
+            });
+            to.getExecutor().submit(() -> {
+                TaskList tasks = to.getTasks();
+                for (TaskListListener listener : listeners) {
+                    tasks.addListener(listener);
+                    listener.onTasksReplaced(new TaskList(tasks));
+                }
+                return null;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while switching to workspace " + to.getName());
+        } catch (ExecutionException | RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, "Error moving task list listeners", e);
+        }
+    }
+
+    /**
+     * Registers a listener for changes to the task list and returns the tasks as they are now.
+     * The listener is added on the writer thread at the same moment the snapshot is taken,
+     * so it is told about every change after the snapshot and none before it.
+     * Listener callbacks run on the writer thread.
+     *
+     * @param listener the listener to register.
+     * @return a snapshot of the task list at the time of registration.
+     * @throws InterruptedException if interrupted while waiting for the writer thread.
+     * @throws ExecutionException   if registration fails.
+     */
+    public TaskList watchTasks(TaskListListener listener) throws InterruptedException, ExecutionException {
+        synchronized (switchLock) {
+            Workspace workspace = current;
+            listeners.add(listener);
+            return workspace.getExecutor().submit(() -> {
+                workspace.getTasks().addListener(listener);
+                return new TaskList(workspace.getTasks());
+            });
+        }
+    }
+
+    /**
+     * Unregisters a listener added with {@link #watchTasks(TaskListListener)}.
+     *
+     * @param listener the listener to unregister.
+     * @throws InterruptedException if interrupted while waiting for the writer thread.
+     * @throws ExecutionException   if unregistration fails.
+     */
+    public void unwatchTasks(TaskListListener listener) throws InterruptedException, ExecutionException {
+        synchronized (switchLock) {
+            Workspace workspace = current;
+            listeners.remove(listener);
+            workspace.getExecutor().submit(() -> {
+                workspace.getTasks().removeListener(listener);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Returns the executor that applies commands to the current workspace's task list.
+     *
+     * @return the command executor.
+     */
+    public CommandExecutor getExecutor() {
+        return current.getExecutor();
+    }
+
+    /**
+     * Returns the storage the current workspace saves its tasks to.
+     *
+     * @return the storage.
+     */
+    public Storage getStorage() {
+        return current.getStorage();
+    }
+
+    /**
+     * Stops the writer threads of all loaded workspaces and lets saves already queued finish
+     * before the storage threads exit.
+     */
+    @Override
+    public void close() {
+        workspaces.close();
+    }
+
+    /**
+     * Parses and executes the user input against the given task list,
+     * recording a {@link CommandEvent} for Java Flight Recorder.
+     *
+     * @param input     the user's input command.
+     * @param workspace the workspace the command runs in.
+     * @param tasks     the task list the command operates on.
      * @return a DuskResponse based on the command execution.
      */
-    public DuskResponse getResponse(String input) {
-        StringWriter stringWriter = new StringWriter();
-        try (DuskIO duskIO = new DuskIO(new StringReader(""), stringWriter)) {
+    private DuskResponse execute(String input, Workspace workspace, TaskList tasks) {
+        String commandWord = Parser.getCommandWord(input);
+        CommandEvent event = new CommandEvent();
+        event.start(Parser.isReadOnly(input));
+        DuskResponse response = execute(input, workspace, tasks, event);
+        event.complete(input, response);
+        (commandWord == null ? INVALID_COMMANDS : COMMAND_COUNTS.get(commandWord)).increment();
+        if (response.getType() != DuskResponseType.NORMAL) {
+            COMMAND_ERRORS.increment();
+        }
+        return response;
+    }
+
+    /**
+     * Parses and executes the user input against the given task list.
+     *
+     * @param input     the user's input command.
+     * @param workspace the workspace the command runs in.
+     * @param tasks     the task list the command operates on.
+     * @param event     the event timing the command.
+     * @return a DuskResponse based on the command execution.
+     */
+    private DuskResponse execute(String input, Workspace workspace, TaskList tasks, CommandEvent event) {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
             if (input == null || input.trim().isEmpty()) {
                 throw new InputException("Please enter a command.");
             }
-            Command command = Parser.parse(duskIO, STORAGE, taskList, input);
+            long parseStart = System.nanoTime();
+            Command command = Parser.parse(duskIO, workspace.getStorage(), tasks, workspace.getJournal(), this, input);
+            long executeStart = System.nanoTime();
+            PARSE_LATENCY.record(executeStart - parseStart);
+            event.parsed();
             command.execute();
-            return new DuskResponse(stringWriter.toString(), DuskResponseType.NORMAL);
+            EXECUTE_LATENCY.record(System.nanoTime() - executeStart);
+            return new DuskResponse(duskIO.getResponse(), DuskResponseType.NORMAL, duskIO.getPayload());
         } catch (DuskException e) {
             return new DuskResponse(
                     String.format("❌\t%s:\n\t%s", e.getErrorType().getLabel(), e.getMessage()),
                     DuskResponseType.ERROR
             );
+        } catch (CancellationException e) {
+            // A superseded query; the caller discards the result.
+            throw e;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Unexpected error", e);
-            return new DuskResponse(
-                    String.format("⚠️\tSystem Error:\n\t%s", e.getMessage()),
-                    DuskResponseType.SYSTEM_ERROR
-            );
+            return systemError(e);
         }
     }
+
+    /**
+     * Builds a response for an unexpected system error.
+     *
+     * @param e the error that occurred.
+     * @return a system error response.
+     */
+    private static DuskResponse systemError(Throwable e) {
+        return new DuskResponse(
+                String.format("⚠️\tSystem Error:\n\t%s", e.getMessage()),
+                DuskResponseType.SYSTEM_ERROR
+        );
+    }
 }
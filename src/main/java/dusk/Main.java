@@ -1,12 +1,16 @@
 package dusk;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import dusk.gui.MainWindow;
+import dusk.server.DuskServer;
 import dusk.storage.StorageException;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
@@ -17,7 +21,14 @@ import javafx.stage.Stage;
  */
 public class Main extends Application {
 
+    /**
+     * The system property that, when {@code true}, makes the application exit as soon as the greeting
+     * is shown, after printing the time taken. Used to train and benchmark the class data sharing archive.
+     */
+    public static final String STARTUP_PROBE_PROPERTY = "dusk.startupProbe";
+
     private final Dusk dusk = new Dusk();
+    private DuskServer server;
 
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
 
@@ -37,6 +48,12 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage stage) {
+        if (Warmup.isEnabled()) {
+            Warmup.startAsync();
+        }
+        if (DuskServer.isEnabled()) {
+            startServer();
+        }
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
             AnchorPane root = fxmlLoader.load();
@@ -49,8 +66,51 @@ public class Main extends Application {
             stage.setTitle("Dusk");
             stage.setScene(scene);
             stage.show();
+            Platform.runLater(this::reportStartup);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error starting the application.", e);
         }
     }
+
+    /**
+     * Stops the HTTP API, if it was started, so that its port is released,
+     * and stops Dusk's background threads once pending saves are written.
+     */
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop();
+        }
+        dusk.close();
+    }
+
+    /**
+     * Starts the HTTP API on the configured port. The window still opens if the port cannot be used.
+     */
+    private void startServer() {
+        try {
+            server = new DuskServer(dusk, DuskServer.getConfiguredPort());
+            server.start();
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Error starting the HTTP API.", e);
+        }
+    }
+
+    /**
+     * Logs the time from JVM start until the greeting is on screen,
+     * and exits straight away if the application was launched as a startup probe.
+     */
+    private void reportStartup() {
+        ProcessHandle.current().info().startInstant().ifPresent(start -> {
+            long millis = Duration.between(start, Instant.now()).toMillis();
+            LOGGER.info("Time to greeting: " + millis + " ms");
+            if (Boolean.getBoolean(STARTUP_PROBE_PROPERTY)) {
+                System.out.println("startup-ms=" + millis);
+            }
+        });
+        if (Boolean.getBoolean(STARTUP_PROBE_PROPERTY)) {
+            Platform.exit();
+            System.exit(0);
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package dusk;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import dusk.command.Command;
+import dusk.command.CommandJournal;
+import dusk.command.Parser;
+import dusk.storage.Storage;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.DuskIO;
+import dusk.ui.DuskResponse;
+import dusk.ui.DuskResponseType;
+
+/**
+ * Exercises the command parsing and formatting paths with synthetic input, so that class loading
+ * and JIT compilation happen before the user's first command rather than during it.
+ * Warm-up is opt-in via the {@value #PROPERTY} system property, and never touches the user's tasks:
+ * commands are parsed against a throwaway task list, and only read-only commands are executed.
+ */
+public final class Warmup {
+
+    /** The system property that enables warm-up when set to {@code true}. */
+    public static final String PROPERTY = "dusk.warmup";
+
+    private static final Logger LOGGER = Logger.getLogger(Warmup.class.getName());
+    private static final int ITERATIONS = 200;
+    private static final String[] PARSED_INPUTS = {
+        "todo Read book",
+        "deadline Submit report /by 2024-03-20 1400",
+        "deadline Submit report /by tomorrow 1400",
+        "event Team meeting /from 2024-03-20 1400 /to 2024-03-20 1500",
+        "event Retreat /from next fri /to in 2 weeks",
+        "mark 1",
+        "unmark 1",
+        "delete 1",
+        "undo",
+        "redo 2",
+    };
+    private static final String[] EXECUTED_INPUTS = {
+        "list",
+        "list /on 2024-03-20",
+        "find book",
+    };
+
+    private Warmup() {
+    }
+
+    /**
+     * Returns whether warm-up has been requested.
+     *
+     * @return true if the {@value #PROPERTY} system property is {@code true}.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Runs the warm-up on a low-priority daemon thread.
+     *
+     * @return a future that completes when the warm-up has finished.
+     */
+    public static CompletableFuture<Void> startAsync() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Warm-up failed", e);
+                done.completeExceptionally(e);
+            }
+        }, "dusk-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return done;
+    }
+
+    /**
+     * Runs the warm-up on the calling thread.
+     */
+    public static void run() {
+        long start = System.nanoTime();
+        Storage storage = new Storage();
+        TaskList tasks = syntheticTasks();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String input : PARSED_INPUTS) {
+                parse(storage, tasks, input, false);
+            }
+            for (String input : EXECUTED_INPUTS) {
+                parse(storage, tasks, input, true);
+            }
+        }
+        LOGGER.fine(() -> String.format("Warm-up finished in %.1f ms", (System.nanoTime() - start) / 1e6));
+    }
+
+    /**
+     * Parses a synthetic command and optionally executes it, discarding the output.
+     *
+     * @param storage   the storage passed to the parser; never written to.
+     * @param tasks     the throwaway task list.
+     * @param input     the synthetic input.
+     * @param isExecuted true to execute the command as well as parse it.
+     */
+    private static void parse(Storage storage, TaskList tasks, String input, boolean isExecuted) {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            Command command = Parser.parse(duskIO, storage, tasks, new CommandJournal(), input);
+            if (isExecuted) {
+                command.execute();
+                new DuskResponse(duskIO.getResponse(), DuskResponseType.NORMAL, duskIO.getPayload()).getMessage();
+            }
+        } catch (Exception e) {
+            // Synthetic inputs are valid; a failure only means less code was warmed up.
+            LOGGER.log(Level.FINE, "Warm-up input failed: " + input, e);
+        }
+    }
+
+    /**
+     * Builds a small task list with one task of each kind.
+     *
+     * @return the synthetic tasks.
+     */
+    private static TaskList syntheticTasks() {
+        LocalDateTime date = LocalDateTime.of(2024, 3, 20, 14, 0);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Read book"));
+        tasks.addTask(new Deadline("Return book", date));
+        tasks.addTask(new Event("Book fair", date, date.plusHours(3)));
+        return tasks;
+    }
+}
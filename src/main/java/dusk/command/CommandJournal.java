@@ -0,0 +1,319 @@
+package dusk.command;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+
+/**
+ * Records the inverse of each task list mutation so that changes can be undone and redone.
+ * Each entry holds only the affected index and task, so the journal itself never copies the
+ * task list to undo or redo a step; the executor still publishes a new snapshot afterwards, as it
+ * does after any change, see {@link CommandExecutor}. The journal keeps at most a fixed number of entries
+ * and an estimated number of bytes across its undo and redo history, discarding the oldest entries once
+ * either is exceeded; the most recent change can always be undone, however large its task.
+ */
+public class CommandJournal {
+
+    /** Default maximum number of undoable steps. */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    /** Default maximum estimated size of the recorded entries, in bytes. */
+    public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    // A rough per-entry cost of the entry, its task and the task's dates, before the description.
+    private static final long BYTES_PER_ENTRY = 200;
+
+    private final int capacity;
+    private final long maxBytes;
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
+    private long bytes;
+
+    /**
+     * Constructs a CommandJournal with the default capacity and size limit.
+     */
+    public CommandJournal() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a CommandJournal holding at most the given number of entries and the default size limit.
+     *
+     * @param capacity the maximum number of undoable steps
+     */
+    public CommandJournal(int capacity) {
+        this(capacity, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructs a CommandJournal holding at most the given number of entries and estimated bytes.
+     *
+     * @param capacity the maximum number of undoable steps
+     * @param maxBytes the maximum estimated size of the undo and redo history together
+     */
+    public CommandJournal(int capacity, long maxBytes) {
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records that a task was added at the given index.
+     *
+     * @param index the index the task was added at (0-based)
+     * @param task  the added task
+     */
+    public void recordAdd(int index, Task task) {
+        record(new Entry(Kind.ADD, index, task));
+    }
+
+    /**
+     * Records that a task was deleted from the given index.
+     *
+     * @param index the index the task was deleted from (0-based)
+     * @param task  the deleted task
+     */
+    public void recordDelete(int index, Task task) {
+        record(new Entry(Kind.DELETE, index, task));
+    }
+
+    /**
+     * Records that a task was marked or unmarked.
+     *
+     * @param index          the index of the task (0-based)
+     * @param task           the affected task
+     * @param isMarkedAsDone true if the task was marked as done, false if it was unmarked
+     */
+    public void recordMark(int index, Task task, boolean isMarkedAsDone) {
+        record(new Entry(isMarkedAsDone ? Kind.MARK : Kind.UNMARK, index, task));
+    }
+
+    /**
+     * Reverts up to the given number of most recent changes. Either every step is reverted or,
+     * if one fails, the steps already reverted are reapplied, leaving the list and journal unchanged.
+     *
+     * @param tasks the task list to revert
+     * @param steps the maximum number of changes to revert
+     * @return descriptions of the reverted changes, most recent first
+     * @throws TaskListException if the task list no longer matches the journal
+     */
+    public List<String> undo(TaskList tasks, int steps) throws TaskListException {
+        return move(tasks, steps, undoStack, redoStack, true);
+    }
+
+    /**
+     * Reapplies up to the given number of most recently undone changes. Either every step is reapplied or,
+     * if one fails, the steps already reapplied are reverted, leaving the list and journal unchanged.
+     *
+     * @param tasks the task list to update
+     * @param steps the maximum number of changes to reapply
+     * @return descriptions of the reapplied changes, in the order they were reapplied
+     * @throws TaskListException if the task list no longer matches the journal
+     */
+    public List<String> redo(TaskList tasks, int steps) throws TaskListException {
+        return move(tasks, steps, redoStack, undoStack, false);
+    }
+
+    /**
+     * Returns the number of changes that can be undone.
+     *
+     * @return the undo depth
+     */
+    public int getUndoSize() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the number of changes that can be redone.
+     *
+     * @return the redo depth
+     */
+    public int getRedoSize() {
+        return redoStack.size();
+    }
+
+    /**
+     * Returns the estimated memory held by the undo and redo history.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        return bytes;
+    }
+
+    /**
+     * Reverts or reapplies entries from one stack, moving each to the other stack once it succeeds.
+     * A step that fails changes nothing, so undoing the steps before it restores the starting state.
+     *
+     * @param tasks    the task list to update
+     * @param steps    the maximum number of entries to move
+     * @param from     the stack to take entries from
+     * @param to       the stack to push entries to
+     * @param isRevert true to revert the entries, false to reapply them
+     * @return descriptions of the moved entries, in the order they were moved
+     * @throws TaskListException if the task list no longer matches the journal
+     */
+    private static List<String> move(TaskList tasks, int steps, Deque<Entry> from, Deque<Entry> to,
+                                     boolean isRevert) throws TaskListException {
+        List<String> descriptions = new ArrayList<>();
+        while (descriptions.size() < steps && !from.isEmpty()) {
+            Entry entry = from.peek();
+            try {
+                entry.run(tasks, isRevert);
+            } catch (TaskListException e) {
+                for (int i = 0; i < descriptions.size(); i++) {
+                    Entry moved = to.pop();
+                    moved.run(tasks, !isRevert);
+                    from.push(moved);
+                }
+                throw e;
+            }
+            to.push(from.pop());
+            descriptions.add(entry.toString());
+        }
+        return descriptions;
+    }
+
+    /**
+     * Pushes a new entry, discarding the redo history and then the oldest entries while the journal
+     * holds too many entries or bytes. The new entry itself is always kept.
+     *
+     * @param entry the entry to record
+     */
+    private void record(Entry entry) {
+        for (Entry discarded : redoStack) {
+            bytes -= discarded.bytes;
+        }
+        redoStack.clear();
+        undoStack.push(entry);
+        bytes += entry.bytes;
+        while (undoStack.size() > capacity || (bytes > maxBytes && undoStack.size() > 1)) {
+            bytes -= undoStack.removeLast().bytes;
+        }
+    }
+
+    /**
+     * Kinds of recorded change.
+     */
+    private enum Kind {
+        ADD("add"),
+        DELETE("delete"),
+        MARK("mark"),
+        UNMARK("unmark");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * A single recorded change and the means to apply or revert it in place.
+     */
+    private static class Entry {
+        private final Kind kind;
+        private final int index;
+        private final Task task;
+        private final long bytes;
+
+        Entry(Kind kind, int index, Task task) {
+            this.kind = kind;
+            this.index = index;
+            this.task = task;
+            this.bytes = BYTES_PER_ENTRY + 2L * task.getDescription().length();
+        }
+
+        /**
+         * Reverts or reapplies the change.
+         *
+         * @param tasks    the task list to update
+         * @param isRevert true to revert the change, false to reapply it
+         * @throws TaskListException if the task list no longer matches this entry
+         */
+        void run(TaskList tasks, boolean isRevert) throws TaskListException {
+            if (isRevert) {
+                revert(tasks);
+            } else {
+                apply(tasks);
+            }
+        }
+
+        /**
+         * Reapplies the change.
+         *
+         * @param tasks the task list to update
+         * @throws TaskListException if the task list no longer matches this entry
+         */
+        void apply(TaskList tasks) throws TaskListException {
+            switch (kind) {
+            case ADD:
+                tasks.insertTask(index, task);
+                break;
+            case DELETE:
+                checkTask(tasks);
+                tasks.removeTask(index);
+                break;
+            case MARK:
+                checkTask(tasks);
+                tasks.setDone(index, true);
+                break;
+            case UNMARK:
+                checkTask(tasks);
+                tasks.setDone(index, false);
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal entry: " + kind);
+            }
+        }
+
+        /**
+         * Reverts the change.
+         *
+         * @param tasks the task list to update
+         * @throws TaskListException if the task list no longer matches this entry
+         */
+        void revert(TaskList tasks) throws TaskListException {
+            switch (kind) {
+            case ADD:
+                checkTask(tasks);
+                tasks.removeTask(index);
+                break;
+            case DELETE:
+                tasks.insertTask(index, task);
+                break;
+            case MARK:
+                checkTask(tasks);
+                tasks.setDone(index, false);
+                break;
+            case UNMARK:
+                checkTask(tasks);
+                tasks.setDone(index, true);
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal entry: " + kind);
+            }
+        }
+
+        /**
+         * Checks that the recorded task, or a marked or unmarked copy of it, is still at the recorded index.
+         *
+         * @param tasks the task list to check
+         * @throws TaskListException if a different task is at the index
+         */
+        private void checkTask(TaskList tasks) throws TaskListException {
+            if (!task.isSameTask(tasks.getTask(index))) {
+                throw new TaskListException("Undo history no longer matches the task list.");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind.label + " " + task;
+        }
+    }
+}
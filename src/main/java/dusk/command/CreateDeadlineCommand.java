@@ -20,12 +20,13 @@ public class CreateDeadlineCommand extends CreateTaskCommand {
      * @param tasks      the task list
      * @param duskIO     the UI interface
      * @param storage    the storage handler
+     * @param journal    the journal recording undoable changes
      * @param description the task description
      * @param deadline   the deadline of the task
      */
-    public CreateDeadlineCommand(TaskList tasks, DuskIO duskIO,
-                                 Storage storage, String description, LocalDateTime deadline) {
-        super(tasks, duskIO, storage, description);
+    public CreateDeadlineCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+                                 CommandJournal journal, String description, LocalDateTime deadline) {
+        super(tasks, duskIO, storage, journal, description);
         this.deadline = deadline;
     }
 
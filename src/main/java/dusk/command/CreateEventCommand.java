@@ -21,13 +21,14 @@ public class CreateEventCommand extends CreateTaskCommand {
      * @param tasks       the task list
      * @param duskIO      the UI interface
      * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
      * @param description the task description
      * @param startTime   the start time of the event
      * @param endTime     the end time of the event
      */
-    public CreateEventCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+    public CreateEventCommand(TaskList tasks, DuskIO duskIO, Storage storage, CommandJournal journal,
                               String description, LocalDateTime startTime, LocalDateTime endTime) {
-        super(tasks, duskIO, storage, description);
+        super(tasks, duskIO, storage, journal, description);
         this.startTime = startTime;
         this.endTime = endTime;
     }
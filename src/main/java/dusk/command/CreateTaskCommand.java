@@ -14,6 +14,7 @@ public abstract class CreateTaskCommand extends Command {
     protected final TaskList tasks;
     protected final DuskIO duskIO;
     protected final Storage storage;
+    protected final CommandJournal journal;
     protected final String description;
 
     /**
@@ -22,12 +23,15 @@ public abstract class CreateTaskCommand extends Command {
      * @param tasks       the task list
      * @param duskIO      the UI interface
      * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
      * @param description the task description
      */
-    protected CreateTaskCommand(TaskList tasks, DuskIO duskIO, Storage storage, String description) {
+    protected CreateTaskCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+                                CommandJournal journal, String description) {
         this.tasks = tasks;
         this.duskIO = duskIO;
         this.storage = storage;
+        this.journal = journal;
         this.description = description;
     }
 
@@ -42,6 +46,7 @@ public abstract class CreateTaskCommand extends Command {
         validateDescription();
         var newTask = createTask();
         tasks.addTask(newTask);
+        journal.recordAdd(tasks.size() - 1, newTask);
         printConfirmation(newTask);
         saveAsync(storage, tasks);
     }
@@ -16,10 +16,12 @@ public class CreateTodoCommand extends CreateTaskCommand {
      * @param tasks       the task list
      * @param duskIO      the UI interface
      * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
      * @param description the task description
      */
-    public CreateTodoCommand(TaskList tasks, DuskIO duskIO, Storage storage, String description) {
-        super(tasks, duskIO, storage, description);
+    public CreateTodoCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+                             CommandJournal journal, String description) {
+        super(tasks, duskIO, storage, journal, description);
     }
 
     /**
@@ -16,6 +16,7 @@ public class DeleteCommand extends Command {
     private final TaskList tasks;
     private final DuskIO duskIO;
     private final Storage storage;
+    private final CommandJournal journal;
     private final String description;
 
     /**
@@ -24,12 +25,15 @@ public class DeleteCommand extends Command {
      * @param tasks       the current task list
      * @param duskIO      the I/O interface
      * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
      * @param description the command description containing the task index to delete
      */
-    public DeleteCommand(TaskList tasks, DuskIO duskIO, Storage storage, String description) {
+    public DeleteCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+                         CommandJournal journal, String description) {
         this.tasks = tasks;
         this.duskIO = duskIO;
         this.storage = storage;
+        this.journal = journal;
         this.description = description;
     }
 
@@ -43,6 +47,7 @@ public class DeleteCommand extends Command {
         }
 
         Task removedTask = tasks.removeTask(taskIndex);
+        journal.recordDelete(taskIndex, removedTask);
         duskIO.print(
                 "Noted. I've removed this task:",
                 "  " + removedTask,
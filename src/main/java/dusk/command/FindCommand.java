@@ -6,6 +6,7 @@ import dusk.task.Task;
 import dusk.task.TaskList;
 import dusk.task.TaskListException;
 import dusk.ui.DuskIO;
+import dusk.ui.TaskListView;
 
 /**
  * Command that searches through tasks for descriptions matching
@@ -62,13 +63,7 @@ public class FindCommand extends Command {
         if (combinedResults.isEmpty()) {
             duskIO.print("No matching tasks found!");
         } else {
-            String header = "Here are the matching tasks in your list:";
-            String[] messages = new String[combinedResults.size() + 1];
-            messages[0] = header;
-            for (int i = 0; i < combinedResults.size(); i++) {
-                messages[i + 1] = (i + 1) + ". " + combinedResults.getTask(i);
-            }
-            duskIO.print(messages);
+            duskIO.printTaskList(new TaskListView("Here are the matching tasks in your list:", combinedResults));
         }
     }
 }
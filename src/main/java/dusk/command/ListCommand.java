@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import dusk.task.TaskList;
 import dusk.task.TaskListException;
 import dusk.ui.DuskIO;
+import dusk.ui.TaskListView;
 
 /**
  * Command for listing tasks according to various date filters.
@@ -66,20 +67,14 @@ public class ListCommand extends Command {
      *
      * @param list   the task list to print
      * @param header the header message to display
-     * @throws IOException       if an I/O error occurs
-     * @throws TaskListException if task retrieval fails
+     * @throws IOException if an I/O error occurs
      */
-    private void printTasks(TaskList list, String header) throws IOException, TaskListException {
+    private void printTasks(TaskList list, String header) throws IOException {
         if (list.isEmpty()) {
             duskIO.print("No matching tasks found!");
             return;
         }
 
-        String[] messages = new String[list.size() + 1];
-        messages[0] = header;
-        for (int i = 0; i < list.size(); i++) {
-            messages[i + 1] = (i + 1) + ". " + list.getTask(i);
-        }
-        duskIO.print(messages);
+        duskIO.printTaskList(new TaskListView(header, list));
     }
 }
@@ -16,6 +16,7 @@ public class MarkCommand extends Command {
     private final TaskList tasks;
     private final DuskIO duskIO;
     private final Storage storage;
+    private final CommandJournal journal;
     private final String description;
     private final boolean isMarkedAsDone;
 
@@ -25,14 +26,16 @@ public class MarkCommand extends Command {
      * @param tasks       the current task list
      * @param duskIO      the I/O interface
      * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
      * @param description the command description containing the task index
      * @param isMarkedAsDone  true to mark as done, false to unmark
      */
-    public MarkCommand(TaskList tasks, DuskIO duskIO, Storage storage,
+    public MarkCommand(TaskList tasks, DuskIO duskIO, Storage storage, CommandJournal journal,
                        String description, boolean isMarkedAsDone) {
         this.tasks = tasks;
         this.duskIO = duskIO;
         this.storage = storage;
+        this.journal = journal;
         this.description = description;
         this.isMarkedAsDone = isMarkedAsDone;
     }
@@ -53,6 +56,7 @@ public class MarkCommand extends Command {
             tasks.unmarkTask(taskIndex);
             duskIO.print("OK! I've updated this task to not done:", "  " + tasks.getTask(taskIndex));
         }
+        journal.recordMark(taskIndex, tasks.getTask(taskIndex), isMarkedAsDone);
         saveAsync(storage, tasks);
     }
 }
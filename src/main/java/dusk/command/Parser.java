@@ -1,15 +1,17 @@
 package dusk.command;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import dusk.metrics.Metrics;
 import dusk.storage.Storage;
 import dusk.task.TaskList;
+import dusk.time.DateTimeParser;
+import dusk.time.RelativeDateParser;
 import dusk.ui.DuskIO;
 
 /**
@@ -17,6 +19,10 @@ import dusk.ui.DuskIO;
  */
 public class Parser {
 
+    /** The command words recognised, in lower case. */
+    public static final List<String> COMMAND_WORDS = List.of("list", "find", "mark", "unmark", "delete", "todo",
+            "deadline", "event", "undo", "redo", "stats", "use");
+
     // Pattern to match flags (on, from, to, by) and their corresponding values.
     private static final Pattern FLAGS_PATTERN = Pattern.compile(
             "/(?<flag>on|from|to|by)\\s*(?<value>[^/]+)?",
@@ -24,20 +30,42 @@ public class Parser {
 
     // Pattern to match the complete user input: command with optional description and arguments.
     private static final Pattern INPUT_PATTERN = Pattern.compile(
-            "^(?<command>list|find|mark|unmark|delete|todo|deadline|event)"
-                    + "(?:\\s+(?<description>[^/]+)(?<arguments>.*))?$",
+            "^(?<command>" + String.join("|", COMMAND_WORDS) + ")"
+                    + "(?:\\s+(?<description>[^/]*)(?<arguments>.*))?$",
             Pattern.CASE_INSENSITIVE);
 
-    // Formatter for parsing date and time strings.
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
-            .appendPattern("yyyy-MM-dd")
-            .optionalStart()
-            .appendLiteral(' ')
-            .appendPattern("HHmm")
-            .optionalEnd()
-            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
-            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-            .toFormatter();
+    // Parser for relative dates such as "tomorrow 1400" or "next fri".
+    private static final RelativeDateParser RELATIVE_DATE_PARSER =
+            new RelativeDateParser(Clock.systemDefaultZone());
+
+    /**
+     * Checks whether the input names a command that only reads the task list.
+     * Such commands may safely run against a snapshot instead of the live list.
+     *
+     * @param input the raw user input string
+     * @return true if the input is a list, find or stats command; false otherwise
+     */
+    public static boolean isReadOnly(final String input) {
+        final String command = getCommandWord(input);
+        return "list".equals(command) || "find".equals(command) || "stats".equals(command);
+    }
+
+    /**
+     * Returns the command word of the input, such as {@code todo} or {@code list}.
+     *
+     * @param input the raw user input string
+     * @return the command word in lower case, or null if the input is not a valid command
+     */
+    public static String getCommandWord(final String input) {
+        if (input == null) {
+            return null;
+        }
+        final Matcher matcher = INPUT_PATTERN.matcher(input.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group("command").toLowerCase();
+    }
 
     /**
      * Parses a user input string and constructs the appropriate command object.
@@ -45,12 +73,71 @@ public class Parser {
      * @param duskIO  the console I/O
      * @param storage the storage object
      * @param tasks   the current task list
+     * @param journal the journal recording undoable changes
      * @param input   the raw user input string
      * @return the command object corresponding to the user input
      * @throws InputException if the command is invalid or incorrectly formatted
      */
-    public static Command parse(final DuskIO duskIO, final Storage storage,
-                                final TaskList tasks, final String input) throws InputException {
+    public static Command parse(final DuskIO duskIO, final Storage storage, final TaskList tasks,
+                                final CommandJournal journal, final String input) throws InputException {
+        return parse(duskIO, storage, tasks, journal, null, input);
+    }
+
+    /**
+     * Parses a user input string and constructs the appropriate command object,
+     * allowing the {@code use} command to switch workspaces.
+     *
+     * @param duskIO   the console I/O
+     * @param storage  the storage object
+     * @param tasks    the current task list
+     * @param journal  the journal recording undoable changes
+     * @param switcher switches the session's workspace, or null if workspaces are not available
+     * @param input    the raw user input string
+     * @return the command object corresponding to the user input
+     * @throws InputException if the command is invalid or incorrectly formatted
+     */
+    public static Command parse(final DuskIO duskIO, final Storage storage, final TaskList tasks,
+                                final CommandJournal journal, final WorkspaceSwitcher switcher,
+                                final String input) throws InputException {
+        return parse(duskIO, storage, tasks, journal, switcher, RELATIVE_DATE_PARSER, input);
+    }
+
+    /**
+     * Parses a user input string and constructs the appropriate command object, resolving relative
+     * dates such as {@code tomorrow} against the given clock rather than the system clock.
+     *
+     * @param duskIO   the console I/O
+     * @param storage  the storage object
+     * @param tasks    the current task list
+     * @param journal  the journal recording undoable changes
+     * @param switcher switches the session's workspace, or null if workspaces are not available
+     * @param clock    the clock giving the current date
+     * @param input    the raw user input string
+     * @return the command object corresponding to the user input
+     * @throws InputException if the command is invalid or incorrectly formatted
+     */
+    public static Command parse(final DuskIO duskIO, final Storage storage, final TaskList tasks,
+                                final CommandJournal journal, final WorkspaceSwitcher switcher,
+                                final Clock clock, final String input) throws InputException {
+        return parse(duskIO, storage, tasks, journal, switcher, new RelativeDateParser(clock), input);
+    }
+
+    /**
+     * Parses a user input string and constructs the appropriate command object.
+     *
+     * @param duskIO        the console I/O
+     * @param storage       the storage object
+     * @param tasks         the current task list
+     * @param journal       the journal recording undoable changes
+     * @param switcher      switches the session's workspace, or null if workspaces are not available
+     * @param relativeDates the parser for relative dates
+     * @param input         the raw user input string
+     * @return the command object corresponding to the user input
+     * @throws InputException if the command is invalid or incorrectly formatted
+     */
+    private static Command parse(final DuskIO duskIO, final Storage storage, final TaskList tasks,
+                                 final CommandJournal journal, final WorkspaceSwitcher switcher,
+                                 final RelativeDateParser relativeDates, final String input) throws InputException {
         final Matcher matcher = INPUT_PATTERN.matcher(input.trim());
         if (!matcher.matches()) {
             throw new InputException("Invalid command format!");
@@ -65,14 +152,20 @@ public class Parser {
         validateCommand(command, description, arguments);
 
         return switch (command) {
-            case "list" -> parseListCommand(duskIO, tasks, arguments);
-            case "deadline" -> parseDeadlineCommand(duskIO, storage, tasks, description, arguments);
-            case "event" -> parseEventCommand(duskIO, storage, tasks, description, arguments);
+            case "list" -> parseListCommand(duskIO, tasks, arguments, relativeDates);
+            case "deadline" -> parseDeadlineCommand(duskIO, storage, tasks, journal, description, arguments,
+                    relativeDates);
+            case "event" -> parseEventCommand(duskIO, storage, tasks, journal, description, arguments,
+                    relativeDates);
             case "find" -> new FindCommand(tasks, duskIO, description);
-            case "delete" -> new DeleteCommand(tasks, duskIO, storage, description);
-            case "mark" -> new MarkCommand(tasks, duskIO, storage, description, true);
-            case "unmark" -> new MarkCommand(tasks, duskIO, storage, description, false);
-            case "todo" -> new CreateTodoCommand(tasks, duskIO, storage, description);
+            case "delete" -> new DeleteCommand(tasks, duskIO, storage, journal, description);
+            case "mark" -> new MarkCommand(tasks, duskIO, storage, journal, description, true);
+            case "unmark" -> new MarkCommand(tasks, duskIO, storage, journal, description, false);
+            case "todo" -> new CreateTodoCommand(tasks, duskIO, storage, journal, description);
+            case "undo" -> new UndoCommand(tasks, duskIO, storage, journal, description, true);
+            case "redo" -> new UndoCommand(tasks, duskIO, storage, journal, description, false);
+            case "stats" -> new StatsCommand(duskIO, Metrics.getInstance());
+            case "use" -> parseUseCommand(duskIO, switcher, description + arguments);
             default -> throw new InputException("Unknown command: " + command);
         };
     }
@@ -90,6 +183,10 @@ public class Parser {
         if (command == null || command.isEmpty()) {
             throw new InputException("Command cannot be empty.");
         }
+        // Only list may take flags without a description, as in "list /on 2024-03-20".
+        if (!command.equals("list") && description.isEmpty() && !arguments.isEmpty()) {
+            throw new InputException("Invalid command format!");
+        }
         // Commands that require a non-empty description.
         if ((command.equals("delete") || command.equals("mark") || command.equals("unmark") ||
                 command.equals("find") || command.equals("todo") || command.equals("deadline") ||
@@ -121,14 +218,22 @@ public class Parser {
 
     /**
      * Parses a date/time string into a LocalDateTime object.
+     * Accepts either an absolute {@code yyyy-MM-dd[ HHmm]} value or a relative date such as
+     * {@code tomorrow 1400}, {@code next fri} or {@code in 3 days}.
      *
-     * @param dateTimeStr the raw date/time string
+     * @param dateTimeStr   the raw date/time string
+     * @param relativeDates the parser for relative dates
      * @return the parsed LocalDateTime object
      * @throws InputException if the date/time format is invalid
      */
-    private static LocalDateTime parseDateTime(final String dateTimeStr) throws InputException {
+    private static LocalDateTime parseDateTime(final String dateTimeStr, final RelativeDateParser relativeDates)
+            throws InputException {
+        final String value = dateTimeStr.trim();
         try {
-            return LocalDateTime.parse(dateTimeStr.trim(), DATE_TIME_FORMATTER);
+            if (!value.isEmpty() && Character.isDigit(value.charAt(0))) {
+                return DateTimeParser.parse(value);
+            }
+            return relativeDates.parse(value);
         } catch (DateTimeParseException e) {
             throw new InputException("Invalid date/time format: " + dateTimeStr);
         }
@@ -137,14 +242,15 @@ public class Parser {
     /**
      * Parses the input as a list command.
      *
-     * @param duskIO    the console I/O
-     * @param tasks     the current task list
-     * @param arguments the arguments portion of the input
+     * @param duskIO        the console I/O
+     * @param tasks         the current task list
+     * @param arguments     the arguments portion of the input
+     * @param relativeDates the parser for relative dates
      * @return the ListCommand corresponding to the input
      * @throws InputException if the arguments are invalid
      */
-    private static Command parseListCommand(final DuskIO duskIO, final TaskList tasks,
-                                            final String arguments) throws InputException {
+    private static Command parseListCommand(final DuskIO duskIO, final TaskList tasks, final String arguments,
+                                            final RelativeDateParser relativeDates) throws InputException {
         LocalDateTime onDate = null;
         LocalDateTime fromDate = null;
         LocalDateTime toDate = null;
@@ -158,19 +264,19 @@ public class Parser {
                 if (onDate != null) {
                     throw new InputException("Duplicate /on flag.");
                 }
-                onDate = parseDateTime(value);
+                onDate = parseDateTime(value, relativeDates);
                 break;
             case "from":
                 if (fromDate != null) {
                     throw new InputException("Duplicate /from flag.");
                 }
-                fromDate = parseDateTime(value);
+                fromDate = parseDateTime(value, relativeDates);
                 break;
             case "to":
                 if (toDate != null) {
                     throw new InputException("Duplicate /to flag.");
                 }
-                toDate = parseDateTime(value);
+                toDate = parseDateTime(value, relativeDates);
                 break;
             default:
                 throw new InputException("Unknown flag: /" + flag);
@@ -183,19 +289,40 @@ public class Parser {
     }
 
     /**
-     * Parses the input as a deadline command.
+     * Parses the input as a use command.
      *
      * @param duskIO      the console I/O
-     * @param storage     the storage object
-     * @param tasks       the current task list
-     * @param description the command description
-     * @param arguments   the additional arguments
+     * @param switcher    switches the session's workspace, or null if workspaces are not available
+     * @param name        the workspace name, or an empty string
+     * @return the UseCommand corresponding to the input
+     * @throws InputException if workspaces are not available
+     */
+    private static Command parseUseCommand(final DuskIO duskIO, final WorkspaceSwitcher switcher,
+                                           final String name) throws InputException {
+        if (switcher == null) {
+            throw new InputException("Workspaces are not available here.");
+        }
+        return new UseCommand(duskIO, switcher, name);
+    }
+
+    /**
+     * Parses the input as a deadline command.
+     *
+     * @param duskIO        the console I/O
+     * @param storage       the storage object
+     * @param tasks         the current task list
+     * @param journal       the journal recording undoable changes
+     * @param description   the command description
+     * @param arguments     the additional arguments
+     * @param relativeDates the parser for relative dates
      * @return the DeadlineCommand corresponding to the input
      * @throws InputException if the arguments are invalid
      */
     private static Command parseDeadlineCommand(final DuskIO duskIO, final Storage storage,
-                                                final TaskList tasks, final String description,
-                                                final String arguments) throws InputException {
+                                                final TaskList tasks, final CommandJournal journal,
+                                                final String description, final String arguments,
+                                                final RelativeDateParser relativeDates)
+            throws InputException {
         final Matcher flagMatcher = FLAGS_PATTERN.matcher(arguments);
         String byValue = null;
         while (flagMatcher.find()) {
@@ -212,24 +339,28 @@ public class Parser {
         if (byValue == null || byValue.isEmpty()) {
             throw new InputException("Deadline command requires a /by flag with a valid date/time.");
         }
-        LocalDateTime byDateTime = parseDateTime(byValue);
-        return new CreateDeadlineCommand(tasks, duskIO, storage, description, byDateTime);
+        LocalDateTime byDateTime = parseDateTime(byValue, relativeDates);
+        return new CreateDeadlineCommand(tasks, duskIO, storage, journal, description, byDateTime);
     }
 
     /**
      * Parses the input as an event command.
      *
-     * @param duskIO      the console I/O
-     * @param storage     the storage object
-     * @param tasks       the current task list
-     * @param description the command description
-     * @param arguments   the additional arguments
+     * @param duskIO        the console I/O
+     * @param storage       the storage object
+     * @param tasks         the current task list
+     * @param journal       the journal recording undoable changes
+     * @param description   the command description
+     * @param arguments     the additional arguments
+     * @param relativeDates the parser for relative dates
      * @return the EventCommand corresponding to the input
      * @throws InputException if the arguments are invalid
      */
     private static Command parseEventCommand(final DuskIO duskIO, final Storage storage,
-                                             final TaskList tasks, final String description,
-                                             final String arguments) throws InputException {
+                                             final TaskList tasks, final CommandJournal journal,
+                                             final String description, final String arguments,
+                                             final RelativeDateParser relativeDates)
+            throws InputException {
         LocalDateTime fromDate = null;
         LocalDateTime toDate = null;
 
@@ -242,13 +373,13 @@ public class Parser {
                 if (fromDate != null) {
                     throw new InputException("Duplicate /from flag.");
                 }
-                fromDate = parseDateTime(value);
+                fromDate = parseDateTime(value, relativeDates);
                 break;
             case "to":
                 if (toDate != null) {
                     throw new InputException("Duplicate /to flag.");
                 }
-                toDate = parseDateTime(value);
+                toDate = parseDateTime(value, relativeDates);
                 break;
             default:
                 throw new InputException("Unexpected flag /" + flag + " in event command.");
@@ -257,6 +388,6 @@ public class Parser {
         if (fromDate == null || toDate == null) {
             throw new InputException("Event command requires both /from and /to flags with valid date/time values.");
         }
-        return new CreateEventCommand(tasks, duskIO, storage, description, fromDate, toDate);
+        return new CreateEventCommand(tasks, duskIO, storage, journal, description, fromDate, toDate);
     }
 }
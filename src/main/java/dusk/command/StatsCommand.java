@@ -0,0 +1,34 @@
+package dusk.command;
+
+import java.io.IOException;
+import java.util.List;
+
+import dusk.metrics.Metrics;
+import dusk.ui.DuskIO;
+
+/**
+ * Command that reports the application's counters, gauges and latencies.
+ */
+public class StatsCommand extends Command {
+
+    private final DuskIO duskIO;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a StatsCommand.
+     *
+     * @param duskIO  the I/O interface
+     * @param metrics the metrics to report
+     */
+    public StatsCommand(DuskIO duskIO, Metrics metrics) {
+        this.duskIO = duskIO;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void execute() throws IOException {
+        List<String> report = metrics.getReport();
+        duskIO.print("Here are my statistics:");
+        duskIO.print(report.toArray(new String[0]));
+    }
+}
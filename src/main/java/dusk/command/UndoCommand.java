@@ -0,0 +1,77 @@
+package dusk.command;
+
+import java.io.IOException;
+import java.util.List;
+
+import dusk.storage.Storage;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.ui.DuskIO;
+
+/**
+ * Command for undoing or redoing recent changes to the task list.
+ */
+public class UndoCommand extends Command {
+
+    private final TaskList tasks;
+    private final DuskIO duskIO;
+    private final Storage storage;
+    private final CommandJournal journal;
+    private final String description;
+    private final boolean isUndo;
+
+    /**
+     * Constructs an UndoCommand.
+     *
+     * @param tasks       the current task list
+     * @param duskIO      the I/O interface
+     * @param storage     the storage handler
+     * @param journal     the journal recording undoable changes
+     * @param description the command description containing the number of steps (may be empty)
+     * @param isUndo      true to undo, false to redo
+     */
+    public UndoCommand(TaskList tasks, DuskIO duskIO, Storage storage, CommandJournal journal,
+                       String description, boolean isUndo) {
+        this.tasks = tasks;
+        this.duskIO = duskIO;
+        this.storage = storage;
+        this.journal = journal;
+        this.description = description;
+        this.isUndo = isUndo;
+    }
+
+    @Override
+    public void execute() throws IOException, InputException, TaskListException {
+        int steps;
+        try {
+            steps = description.isEmpty() ? 1 : Integer.parseInt(description);
+        } catch (NumberFormatException exception) {
+            throw new InputException("Number of steps must be a positive number for an undo/redo command!");
+        }
+        if (steps < 1) {
+            throw new InputException("Number of steps must be a positive number for an undo/redo command!");
+        }
+
+        List<String> changes;
+        try {
+            changes = isUndo ? journal.undo(tasks, steps) : journal.redo(tasks, steps);
+        } catch (TaskListException e) {
+            // The journal puts back any steps it applied, so there is nothing to save.
+            throw new TaskListException(e.getMessage() + (isUndo ? " Nothing was undone." : " Nothing was redone."));
+        }
+        if (changes.isEmpty()) {
+            duskIO.print(isUndo ? "Nothing to undo!" : "Nothing to redo!");
+            return;
+        }
+
+        String[] messages = new String[changes.size() + 2];
+        messages[0] = (isUndo ? "Undone" : "Redone") + " " + changes.size()
+                + (changes.size() == 1 ? " change:" : " changes:");
+        for (int i = 0; i < changes.size(); i++) {
+            messages[i + 1] = "  " + changes.get(i);
+        }
+        messages[messages.length - 1] = "Now you have " + tasks.size() + " tasks in the list.";
+        duskIO.print(messages);
+        saveAsync(storage, tasks);
+    }
+}
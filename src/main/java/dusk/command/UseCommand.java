@@ -0,0 +1,49 @@
+package dusk.command;
+
+import java.io.IOException;
+
+import dusk.storage.StorageException;
+import dusk.ui.DuskIO;
+import dusk.workspace.WorkspaceManager;
+
+/**
+ * Command for switching to another workspace, or showing the current one when no name is given.
+ */
+public class UseCommand extends Command {
+
+    private final DuskIO duskIO;
+    private final WorkspaceSwitcher switcher;
+    private final String name;
+
+    /**
+     * Constructs a UseCommand.
+     *
+     * @param duskIO   the I/O interface
+     * @param switcher switches the session's workspace
+     * @param name     the workspace to switch to, or an empty string to show the current one
+     */
+    public UseCommand(DuskIO duskIO, WorkspaceSwitcher switcher, String name) {
+        this.duskIO = duskIO;
+        this.switcher = switcher;
+        this.name = name.trim().toLowerCase();
+    }
+
+    @Override
+    public void execute() throws IOException, InputException {
+        if (name.isEmpty()) {
+            duskIO.print("You are in the " + switcher.getCurrentWorkspace() + " workspace.");
+            return;
+        }
+        if (!WorkspaceManager.isValidName(name)) {
+            throw new InputException("Workspace names use up to 32 letters, digits, - and _: " + name);
+        }
+        int taskCount;
+        try {
+            taskCount = switcher.useWorkspace(name);
+        } catch (StorageException e) {
+            throw new IOException("Could not load the " + name + " workspace: " + e.getMessage(), e);
+        }
+        duskIO.print("Switched to the " + name + " workspace.",
+                "It has " + taskCount + (taskCount == 1 ? " task." : " tasks."));
+    }
+}
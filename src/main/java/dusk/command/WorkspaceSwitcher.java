@@ -0,0 +1,25 @@
+package dusk.command;
+
+import dusk.storage.StorageException;
+
+/**
+ * Switches the session between named workspaces, each holding its own task list.
+ */
+public interface WorkspaceSwitcher {
+
+    /**
+     * Returns the name of the workspace commands currently apply to.
+     *
+     * @return the workspace name
+     */
+    String getCurrentWorkspace();
+
+    /**
+     * Makes the named workspace the current one, loading it if it is not already in memory.
+     *
+     * @param name the workspace name, already validated
+     * @return the number of tasks in the workspace
+     * @throws StorageException if the workspace cannot be loaded
+     */
+    int useWorkspace(String name) throws StorageException;
+}
@@ -0,0 +1,121 @@
+package dusk.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import dusk.ui.DuskResponse;
+
+/**
+ * A Java Flight Recorder event covering one command, from raw input to response.
+ * The duration of the event is split into parsing and execution, so a slow command can be
+ * traced to the parser, the task list or the I/O it triggered.
+ *
+ * <p>When no recording is running, creating and completing the event costs a few field writes;
+ * the timestamps and response details are only gathered while the event is enabled.
+ */
+@Name("dusk.Command")
+@Label("Command")
+@Category({"Dusk", "Commands"})
+@Description("A user command parsed and executed by Dusk")
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    @Label("Command Type")
+    @Description("The first word of the input, e.g. list or todo")
+    private String commandType;
+
+    @Label("Read Only")
+    @Description("Whether the command ran against a snapshot instead of on the writer thread")
+    private boolean isReadOnly;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseTime;
+
+    @Label("Execute Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeTime;
+
+    @Label("Response Type")
+    private String responseType;
+
+    @Label("Response Size")
+    @Description("The length of the response text, excluding any list of tasks")
+    @DataAmount(DataAmount.BYTES)
+    private long responseSize;
+
+    @Label("Listed Tasks")
+    @Description("The number of tasks shown after the response text")
+    private int listedTasks;
+
+    private transient long startNanos;
+    private transient long parsedNanos;
+
+    /**
+     * Starts timing a command.
+     *
+     * @param isReadOnly whether the command runs against a snapshot.
+     */
+    public void start(boolean isReadOnly) {
+        if (isEnabled()) {
+            this.isReadOnly = isReadOnly;
+            startNanos = System.nanoTime();
+            parsedNanos = startNanos;
+            begin();
+        }
+    }
+
+    /**
+     * Marks the end of parsing and the start of execution.
+     */
+    public void parsed() {
+        if (isEnabled()) {
+            parsedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Finishes timing the command and commits the event if it meets the recording's threshold.
+     *
+     * @param input    the user's input.
+     * @param response the response to the command.
+     */
+    public void complete(String input, DuskResponse response) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        commandType = commandType(input);
+        parseTime = parsedNanos - startNanos;
+        executeTime = endNanos - parsedNanos;
+        responseType = response.getType().name();
+        responseSize = response.getLeadingMessage() == null ? 0 : response.getLeadingMessage().length();
+        listedTasks = response.hasPayload() ? response.getPayload().size() : 0;
+        commit();
+    }
+
+    /**
+     * Returns the first word of the input in lower case.
+     *
+     * @param input the user's input.
+     * @return the command type, or an empty string for blank input.
+     */
+    static String commandType(String input) {
+        if (input == null) {
+            return "";
+        }
+        String trimmed = input.trim();
+        int space = trimmed.indexOf(' ');
+        return (space < 0 ? trimmed : trimmed.substring(0, space)).toLowerCase();
+    }
+}
@@ -0,0 +1,68 @@
+package dusk.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event covering a response being added to the transcript on the
+ * JavaFX application thread, including how long the response waited to reach that thread.
+ */
+@Name("dusk.Render")
+@Label("Render Response")
+@Category({"Dusk", "GUI"})
+@Description("A response added to the chat transcript")
+@StackTrace(false)
+public class RenderEvent extends Event {
+
+    @Label("Queue Time")
+    @Description("Time from the response being ready to the JavaFX thread picking it up")
+    @Timespan(Timespan.NANOSECONDS)
+    private long queueTime;
+
+    @Label("Message Length")
+    private int messageLength;
+
+    @Label("Listed Tasks")
+    private int listedTasks;
+
+    @Label("Transcript Size")
+    @Description("The number of messages loaded in the transcript after this one was added")
+    private int transcriptSize;
+
+    /**
+     * Starts timing the render.
+     *
+     * @param readyNanos the {@link System#nanoTime()} at which the response was ready.
+     */
+    public void start(long readyNanos) {
+        if (isEnabled()) {
+            queueTime = System.nanoTime() - readyNanos;
+            begin();
+        }
+    }
+
+    /**
+     * Records the rendered response and commits the event if it meets the recording's threshold.
+     *
+     * @param messageLength  the length of the response text.
+     * @param listedTasks    the number of tasks shown with the response.
+     * @param transcriptSize the number of messages now in the transcript.
+     */
+    public void complete(int messageLength, int listedTasks, int transcriptSize) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.messageLength = messageLength;
+            this.listedTasks = listedTasks;
+            this.transcriptSize = transcriptSize;
+            commit();
+        }
+    }
+}
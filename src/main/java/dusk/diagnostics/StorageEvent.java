@@ -0,0 +1,68 @@
+package dusk.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event covering one save or load of the task data file.
+ */
+@Name("dusk.Storage")
+@Label("Storage")
+@Category({"Dusk", "Storage"})
+@Description("The task data file being saved or loaded")
+@StackTrace(false)
+public class StorageEvent extends Event {
+
+    /** The operation recorded when saving. */
+    public static final String SAVE = "save";
+
+    /** The operation recorded when loading. */
+    public static final String LOAD = "load";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    /**
+     * Constructs an event for the given operation.
+     *
+     * @param operation {@link #SAVE} or {@link #LOAD}.
+     */
+    public StorageEvent(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Records the outcome of the operation and commits the event if it meets the recording's threshold.
+     *
+     * @param bytes        the size of the data file.
+     * @param taskCount    the number of tasks saved or loaded.
+     * @param isSuccessful whether the operation completed.
+     */
+    public void complete(long bytes, int taskCount, boolean isSuccessful) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.taskCount = taskCount;
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dusk.gui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import dusk.metrics.Metrics;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Decodes avatar images once at their display size and shares them between all dialog boxes.
+ *
+ * <p>Each avatar is decoded directly at the size it is drawn at, in device pixels, and masked
+ * to a circle with an anti-aliased edge. A {@link ProfilePicture} can then show the bitmap
+ * pixel for pixel, with no scaling, smoothing or clipping when a bubble is rendered.
+ */
+public final class AvatarCache {
+    private static final Map<String, Image> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder CACHE_HITS = Metrics.getInstance().counter("cache.avatar.hit");
+    private static final LongAdder CACHE_MISSES = Metrics.getInstance().counter("cache.avatar.miss");
+
+    private AvatarCache() {
+    }
+
+    /**
+     * Returns the avatar at the given resource path, scaled and masked for display.
+     *
+     * @param resourcePath the classpath resource of the source image.
+     * @param size         the display size in layout pixels.
+     * @param outputScale  the number of device pixels per layout pixel, e.g. 2.0 on a HiDPI screen.
+     * @return the shared avatar bitmap, {@code size * outputScale} device pixels square.
+     */
+    public static Image get(String resourcePath, double size, double outputScale) {
+        int pixels = (int) Math.ceil(size * outputScale);
+        String key = resourcePath + "@" + pixels;
+        Image cached = CACHE.get(key);
+        if (cached != null) {
+            CACHE_HITS.increment();
+            return cached;
+        }
+        return CACHE.computeIfAbsent(key, k -> {
+            CACHE_MISSES.increment();
+            return load(resourcePath, pixels);
+        });
+    }
+
+    /**
+     * Decodes an image at the given size and masks it to a circle.
+     *
+     * @param resourcePath the classpath resource of the source image.
+     * @param pixels       the width and height of the result in device pixels.
+     * @return the masked image.
+     */
+    private static Image load(String resourcePath, int pixels) {
+        Image decoded;
+        try (InputStream stream = Objects.requireNonNull(AvatarCache.class.getResourceAsStream(resourcePath),
+                "Missing image resource: " + resourcePath)) {
+            decoded = new Image(stream, pixels, pixels, false, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int width = (int) decoded.getWidth();
+        int height = (int) decoded.getHeight();
+        int[] argb = new int[width * height];
+        decoded.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        maskToCircle(argb, width, height);
+
+        WritableImage masked = new WritableImage(width, height);
+        masked.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return masked;
+    }
+
+    /**
+     * Makes the pixels outside the largest centred circle transparent, blending the edge.
+     *
+     * @param argb   the non-premultiplied ARGB pixels, row by row; modified in place.
+     * @param width  the image width.
+     * @param height the image height.
+     */
+    static void maskToCircle(int[] argb, int width, int height) {
+        double radius = Math.min(width, height) / 2.0;
+        double centerX = width / 2.0;
+        double centerY = height / 2.0;
+        for (int y = 0; y < height; y++) {
+            double dy = y + 0.5 - centerY;
+            for (int x = 0; x < width; x++) {
+                double dx = x + 0.5 - centerX;
+                // Fraction of the pixel inside the circle, approximated from its centre's distance.
+                double coverage = Math.min(1.0, Math.max(0.0, radius - Math.sqrt(dx * dx + dy * dy) + 0.5));
+                int i = y * width + x;
+                int alpha = (int) Math.round((argb[i] >>> 24) * coverage);
+                argb[i] = (alpha << 24) | (argb[i] & 0x00FFFFFF);
+            }
+        }
+    }
+}
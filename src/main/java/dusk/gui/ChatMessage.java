@@ -0,0 +1,125 @@
+package dusk.gui;
+
+import dusk.storage.ChatHistory;
+import dusk.ui.DuskResponse;
+import dusk.ui.DuskResponseType;
+import dusk.ui.TaskListView;
+
+/**
+ * An entry in the chat transcript. Messages hold only the data to display;
+ * the nodes that show them are recycled by {@link ChatMessageCell}.
+ */
+public class ChatMessage {
+
+    /**
+     * The kinds of message shown in the transcript.
+     * The ordinal is stored in the chat history, so new constants must be added at the end.
+     */
+    public enum Sender {
+        USER,
+        DUSK,
+        ERROR
+    }
+
+    private final Sender sender;
+    private final String text;
+    private final TaskListView payload;
+
+    /**
+     * Constructs a ChatMessage.
+     *
+     * @param sender  who the message is from.
+     * @param text    the message text.
+     * @param payload the task list shown below the text (can be null).
+     */
+    private ChatMessage(Sender sender, String text, TaskListView payload) {
+        this.sender = sender;
+        this.text = text;
+        this.payload = payload;
+    }
+
+    /**
+     * Creates a message typed by the user.
+     *
+     * @param text the user's message.
+     * @return the chat message.
+     */
+    public static ChatMessage fromUser(String text) {
+        return new ChatMessage(Sender.USER, text, null);
+    }
+
+    /**
+     * Creates a message for a response from Dusk.
+     *
+     * @param response the response to show.
+     * @return the chat message.
+     */
+    public static ChatMessage fromDusk(DuskResponse response) {
+        if (response.getType() == DuskResponseType.ERROR) {
+            return error(response.getMessage());
+        }
+        return response.hasPayload()
+                ? new ChatMessage(Sender.DUSK, response.getLeadingMessage(), response.getPayload())
+                : new ChatMessage(Sender.DUSK, response.getMessage(), null);
+    }
+
+    /**
+     * Creates an error message.
+     *
+     * @param text the error message.
+     * @return the chat message.
+     */
+    public static ChatMessage error(String text) {
+        return new ChatMessage(Sender.ERROR, text, null);
+    }
+
+    /**
+     * Creates a message from an entry in the chat history. A task list stored with the message
+     * comes back as part of its text, shortened to {@link ChatHistory#MAX_STORED_ITEMS} items.
+     *
+     * @param entry the history entry.
+     * @return the chat message.
+     */
+    public static ChatMessage fromHistory(ChatHistory.Entry entry) {
+        Sender[] senders = Sender.values();
+        int kind = entry.getKind();
+        Sender sender = kind >= 0 && kind < senders.length ? senders[kind] : Sender.DUSK;
+        return new ChatMessage(sender, entry.getText(), null);
+    }
+
+    /**
+     * Returns the kind under which this message is stored in the chat history.
+     *
+     * @return the history kind.
+     */
+    public byte getHistoryKind() {
+        return (byte) sender.ordinal();
+    }
+
+    /**
+     * Returns who the message is from.
+     *
+     * @return the sender.
+     */
+    public Sender getSender() {
+        return sender;
+    }
+
+    /**
+     * Returns the message text, without any task list shown below it.
+     *
+     * @return the text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the task list shown below the text.
+     *
+     * @return the payload, or null if the message is plain text.
+     */
+    public TaskListView getPayload() {
+        return payload;
+    }
+}
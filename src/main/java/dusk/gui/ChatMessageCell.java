@@ -0,0 +1,90 @@
+package dusk.gui;
+
+import dusk.ui.DuskResponseType;
+import javafx.scene.Node;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
+
+/**
+ * A transcript cell that shows a {@link ChatMessage}.
+ * Each cell creates at most one node per kind of message and updates it in place when the
+ * list view recycles the cell, so the number of nodes depends on the visible rows only.
+ */
+public class ChatMessageCell extends ListCell<ChatMessage> {
+    private static final double HORIZONTAL_INSETS = 20.0;
+
+    private final Image userImage;
+    private final Image duskImage;
+    private DialogBox userDialog;
+    private DialogBox duskDialog;
+    private ErrorBox errorBox;
+
+    /**
+     * Constructs a ChatMessageCell.
+     *
+     * @param userImage the user's avatar image.
+     * @param duskImage the system avatar image.
+     */
+    public ChatMessageCell(Image userImage, Image duskImage) {
+        this.userImage = userImage;
+        this.duskImage = duskImage;
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        getStyleClass().add("transcript-cell");
+        // Let the cell follow the list width so long messages wrap instead of scrolling sideways.
+        setPrefWidth(0);
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        setGraphic(nodeFor(message));
+    }
+
+    /**
+     * Returns this cell's node for the kind of message, updated to show the message.
+     *
+     * @param message the message to show.
+     * @return the node displaying the message.
+     */
+    private Node nodeFor(ChatMessage message) {
+        switch (message.getSender()) {
+        case USER:
+            if (userDialog == null) {
+                userDialog = bindWidth(DialogBox.getUserDialog("", userImage));
+            }
+            userDialog.setMessage(message.getText(), null);
+            return userDialog;
+        case ERROR:
+            if (errorBox == null) {
+                errorBox = bindWidth(new ErrorBox(""));
+            }
+            errorBox.setMessage(message.getText());
+            return errorBox;
+        default:
+            if (duskDialog == null) {
+                duskDialog = bindWidth(DialogBox.getDuskDialog("", duskImage, DuskResponseType.NORMAL));
+            }
+            duskDialog.setMessage(message.getText(), message.getPayload());
+            return duskDialog;
+        }
+    }
+
+    /**
+     * Sizes the node to the width of the list view.
+     *
+     * @param node the node to size.
+     * @param <T>  the type of node.
+     * @return the node.
+     */
+    private <T extends Region> T bindWidth(T node) {
+        node.prefWidthProperty().bind(getListView().widthProperty().subtract(HORIZONTAL_INSETS));
+        node.setMinWidth(0);
+        return node;
+    }
+}
@@ -1,50 +1,59 @@
 package dusk.gui;
 
 import dusk.ui.DuskResponseType;
+import dusk.ui.TaskListView;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
-import java.io.IOException;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import java.util.AbstractList;
 import java.util.Collections;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * A custom dialog box for the chat interface that displays user or system messages.
  */
 public class DialogBox extends HBox {
-    private static final Logger LOGGER = Logger.getLogger(DialogBox.class.getName());
-    private static final String DIALOG_BOX_FXML = "/view/DialogBox.fxml";
-    private static final String ERROR_DIALOG_BOX_FXML = "/view/ErrorDialogBox.fxml";
+    private static final double PREF_WIDTH = 400.0;
+    private static final Insets DIALOG_MARGIN = new Insets(0, 5.0, 0, 5.0);
+    private static final String ERROR_STYLE_CLASS = "error-box";
+    private static final double TASK_CELL_HEIGHT = 24.0;
+    private static final int MAX_VISIBLE_TASKS = 12;
 
-    @FXML
-    private Label dialog;
-    @FXML
-    private ProfilePicture profilePicture;
+    private final Label dialog;
+    private ListView<String> taskList;
 
     /**
      * Constructs a DialogBox with the specified text, image, and error flag.
+     * The layout is built in code rather than loaded from FXML, since a bubble is created
+     * for every message and FXML parsing dominated the cost of showing a response.
      *
      * @param text    the text to display.
      * @param img     the image (can be null).
      * @param isError {@code true} if this dialog represents an error message.
      */
     private DialogBox(String text, Image img, boolean isError) {
-        dialog = new Label();
-        try {
-            loadFxml(isError);
-            if (profilePicture == null) {
-                profilePicture = new ProfilePicture(img);
-            }
-            configureDialog(text, img);
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error loading FXML", e);
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+
+        dialog = new Label(text);
+        dialog.setMinHeight(USE_PREF_SIZE);
+        dialog.setWrapText(true);
+        HBox.setMargin(dialog, DIALOG_MARGIN);
+        getChildren().add(dialog);
+
+        if (isError) {
+            dialog.getStyleClass().add(ERROR_STYLE_CLASS);
+            HBox.setHgrow(dialog, Priority.ALWAYS);
+        } else {
+            getChildren().add(new ProfilePicture(img));
         }
     }
 
@@ -86,30 +95,72 @@ public class DialogBox extends HBox {
     }
 
     /**
-     * Loads the appropriate FXML layout.
+     * Creates a dialog box for a system message followed by a list of tasks.
      *
-     * @param isError {@code true} to load the error-specific layout.
-     * @throws IOException if the FXML file cannot be loaded.
+     * @param text the message preceding the tasks.
+     * @param view the tasks to display.
+     * @param img  the system avatar image.
+     * @return a DialogBox showing the message and tasks.
      */
-    private void loadFxml(boolean isError) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(
-                isError ? ERROR_DIALOG_BOX_FXML : DIALOG_BOX_FXML));
-        fxmlLoader.setController(this);
-        fxmlLoader.setRoot(this);
-        fxmlLoader.load();
+    public static DialogBox getTaskListDialog(String text, TaskListView view, Image img) {
+        DialogBox dialogBox = new DialogBox("", img);
+        dialogBox.setMessage(text, view);
+        return dialogBox;
     }
 
     /**
-     * Configures the dialog with the specified text and image.
+     * Replaces the displayed message, so that the dialog box can be reused for another message.
+     * The tasks, if any, are shown in a virtualized list below the text, so only the visible
+     * rows are rendered no matter how long the list is.
      *
-     * @param text the text to display.
-     * @param img  the image to display; if null, the image view is hidden.
+     * @param text the message to display.
+     * @param view the tasks to display below the message (can be null).
      */
-    private void configureDialog(String text, Image img) {
-        dialog.setText(text);
-        if (img != null) {
-            profilePicture.setImage(img);
+    public void setMessage(String text, TaskListView view) {
+        if (view == null) {
+            dialog.setText(text);
+            if (taskList != null) {
+                taskList.setItems(FXCollections.emptyObservableList());
+                taskList.setVisible(false);
+                taskList.setManaged(false);
+            }
+            return;
+        }
+        dialog.setText(text.isEmpty() ? view.getHeader() : text + view.getHeader());
+        if (taskList == null) {
+            createTaskList();
         }
+        taskList.setItems(FXCollections.observableList(new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return view.getItem(index);
+            }
+
+            @Override
+            public int size() {
+                return view.size();
+            }
+        }));
+        taskList.setPrefHeight(TASK_CELL_HEIGHT * Math.min(view.size(), MAX_VISIBLE_TASKS) + 2);
+        taskList.setVisible(true);
+        taskList.setManaged(true);
+    }
+
+    /**
+     * Creates the list of tasks shown below the dialog text.
+     */
+    private void createTaskList() {
+        taskList = new ListView<>();
+        taskList.setFixedCellSize(TASK_CELL_HEIGHT);
+        taskList.setFocusTraversable(false);
+        taskList.setMinHeight(USE_PREF_SIZE);
+
+        int index = getChildren().indexOf(dialog);
+        VBox content = new VBox(dialog, taskList);
+        HBox.setMargin(content, HBox.getMargin(dialog));
+        HBox.setMargin(dialog, null);
+        HBox.setHgrow(content, Priority.ALWAYS);
+        getChildren().add(Math.max(index, 0), content);
     }
 
     /**
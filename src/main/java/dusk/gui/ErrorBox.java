@@ -10,6 +10,8 @@ import javafx.scene.text.TextFlow;
 public class ErrorBox extends HBox {
     private static final String ERROR_STYLE_CLASS = "error-box";
 
+    private final Text text;
+
     /**
      * Constructs an ErrorBox displaying the specified error message.
      *
@@ -17,11 +19,20 @@ public class ErrorBox extends HBox {
      */
     public ErrorBox(String errorMessage) {
         TextFlow textFlow = new TextFlow();
-        Text text = new Text(errorMessage);
+        text = new Text(errorMessage);
         text.getStyleClass().add("error-text");
         textFlow.getChildren().add(text);
         getChildren().add(textFlow);
         getStyleClass().add(ERROR_STYLE_CLASS);
         setMaxWidth(Double.MAX_VALUE);
     }
+
+    /**
+     * Replaces the displayed error message.
+     *
+     * @param errorMessage the error message to display.
+     */
+    public void setMessage(String errorMessage) {
+        text.setText(errorMessage);
+    }
 }
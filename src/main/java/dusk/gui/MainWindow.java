@@ -1,21 +1,42 @@
 package dusk.gui;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import dusk.Dusk;
+import dusk.Warmup;
+import dusk.command.Parser;
+import dusk.diagnostics.RenderEvent;
+import dusk.storage.ChatHistory;
+import dusk.task.IncrementalSearch;
+import dusk.task.TaskList;
+import dusk.task.Todo;
 import dusk.ui.DuskResponse;
 import dusk.ui.DuskResponseType;
+import dusk.ui.TaskListView;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 /**
  * The primary user interface component that handles user interactions for the Dusk application.
@@ -23,19 +44,38 @@ import javafx.stage.Stage;
 public class MainWindow extends AnchorPane {
     private static final String USER_IMAGE_PATH = "/images/surtr.png";
     private static final String DUSK_IMAGE_PATH = "/images/dusk.png";
+    private static final Logger LOGGER = Logger.getLogger(MainWindow.class.getName());
+    // Older messages are dropped from the transcript beyond this; they remain in the history.
+    private static final int MAX_LOADED_MESSAGES = 200;
+    private static final int HISTORY_PAGE_SIZE = 50;
+    private static final String FIND_PREFIX = "find ";
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(150);
 
     private final Image userImage;
     private final Image duskImage;
+    private final ChatHistory history = new ChatHistory();
+    private final RequestLane requestLane = new RequestLane("dusk-gui-requests");
+    // Previews of a find being typed only ever supersede each other, never a submitted command.
+    private final RequestLane searchLane = new RequestLane("dusk-gui-search");
+    private final IncrementalSearch incrementalSearch = new IncrementalSearch();
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
     private Dusk dusk;
+    private ScrollScheduler scrollScheduler;
+    private boolean isHistoryLoaded;
+    private boolean isLoadingOlderMessages;
+    // Position in the history of the first message in the transcript.
+    private long oldestLoadedIndex;
 
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<ChatMessage> transcript;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private TaskDashboard dashboard;
+    @FXML
+    private SearchResultsView searchResults;
 
     /**
      * Constructs a MainWindow.
@@ -47,24 +87,84 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Loads an image from the specified path.
+     * Loads an avatar from the specified path, pre-scaled and masked for the primary screen.
      *
      * @param path the image path.
-     * @return the loaded image.
+     * @return the shared avatar image.
      */
     private Image loadImage(String path) {
-        return new Image(Objects.requireNonNull(
-                this.getClass().getResourceAsStream(path)));
+        return AvatarCache.get(path, ProfilePicture.DEFAULT_SIZE, Screen.getPrimary().getOutputScaleX());
     }
 
     /**
      * Initializes the user interface components.
+     * The transcript is a virtualized list, so only the messages in view have nodes,
+     * and those nodes are reused as the conversation scrolls.
      */
     @FXML
     public void initialize() {
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        scrollPane.setFitToWidth(true);
+        transcript.setCellFactory(list -> new ChatMessageCell(userImage, duskImage));
+        scrollScheduler = new ScrollScheduler(transcript);
+        transcript.skinProperty().addListener((observable, oldSkin, newSkin) -> watchScrollToTop());
+        searchDebounce.setOnFinished(event -> searchAsYouType(userInput.getText()));
+        userInput.textProperty().addListener((observable, oldText, newText) -> {
+            if (getFindKeyword(newText) == null) {
+                searchDebounce.stop();
+                searchResults.hide();
+            } else {
+                searchDebounce.playFromStart();
+            }
+        });
+    }
+
+    /**
+     * Shows the tasks matching a partially typed find command.
+     * Each search supersedes the previous one on the search lane, and extending the keyword
+     * refines the previous results instead of scanning every task again.
+     *
+     * @param text the current input text.
+     */
+    private void searchAsYouType(String text) {
+        String keyword = getFindKeyword(text);
+        if (dusk == null || keyword == null) {
+            return;
+        }
+        searchLane.submit(() -> incrementalSearch.search(dusk.getExecutor().getSnapshot(), keyword), true)
+                .whenComplete((results, error) -> Platform.runLater(() -> {
+                    // Drop results that arrive after the user has moved on from the find command.
+                    if (error == null && getFindKeyword(userInput.getText()) != null) {
+                        searchResults.show(new TaskListView("Matching tasks:", results));
+                    }
+                }));
+    }
+
+    /**
+     * Returns the keyword of a find command being typed.
+     *
+     * @param text the input text.
+     * @return the keyword, or null if the text is not a find command with a keyword.
+     */
+    private static String getFindKeyword(String text) {
+        if (text == null || !text.startsWith(FIND_PREFIX)) {
+            return null;
+        }
+        String keyword = text.substring(FIND_PREFIX.length()).trim();
+        return keyword.isEmpty() ? null : keyword;
+    }
+
+    /**
+     * Loads older messages from the history whenever the transcript is scrolled to the top.
+     */
+    private void watchScrollToTop() {
+        for (Node node : transcript.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar scrollBar && scrollBar.getOrientation() == Orientation.VERTICAL) {
+                scrollBar.valueProperty().addListener((observable, oldValue, newValue) -> {
+                    if (newValue.doubleValue() <= scrollBar.getMin()) {
+                        loadOlderMessages();
+                    }
+                });
+            }
+        }
     }
 
     /**
@@ -75,8 +175,95 @@ public class MainWindow extends AnchorPane {
     public void setDusk(Dusk d) {
         assert d != null : "Dusk instance cannot be null";
         dusk = d;
+        history.readLatestAsync(HISTORY_PAGE_SIZE)
+                .thenAccept(entries -> Platform.runLater(() -> {
+                    prependMessages(entries);
+                    isHistoryLoaded = true;
+                    scrollToBottom();
+                }))
+                .exceptionally(error -> {
+                    LOGGER.log(Level.WARNING, "Error loading chat history", error);
+                    return null;
+                });
         displayDuskResponse(new DuskResponse(dusk.getGreeting(),
                 DuskResponseType.NORMAL));
+        CompletableFuture.runAsync(this::watchTasks);
+        if (Warmup.isEnabled()) {
+            Platform.runLater(this::warmUpDialogs);
+        }
+    }
+
+    /**
+     * Builds, styles and lays out one dialog box of each kind in a throwaway scene,
+     * so that the first real response does not pay for loading the dialog and list classes.
+     */
+    private void warmUpDialogs() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Read book"));
+        VBox root = new VBox(
+                DialogBox.getUserDialog("list", userImage),
+                DialogBox.getTaskListDialog("", new TaskListView("Here are the tasks in your list:", tasks), duskImage),
+                DialogBox.getDuskDialog("Warm-up", duskImage, DuskResponseType.ERROR));
+        Scene scene = new Scene(root);
+        if (transcript.getScene() != null) {
+            scene.getStylesheets().setAll(transcript.getScene().getStylesheets());
+        }
+        root.applyCss();
+        root.layout();
+    }
+
+    /**
+     * Connects the dashboard to the task list so that it receives every later change.
+     */
+    private void watchTasks() {
+        try {
+            TaskList snapshot = dusk.watchTasks(dashboard);
+            Platform.runLater(() -> dashboard.setSnapshot(snapshot));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Error loading task dashboard", e.getCause());
+        }
+    }
+
+    /**
+     * Loads the page of history before the first message in the transcript, if any.
+     */
+    private void loadOlderMessages() {
+        if (!isHistoryLoaded || isLoadingOlderMessages || oldestLoadedIndex == 0) {
+            return;
+        }
+        isLoadingOlderMessages = true;
+        long from = Math.max(0, oldestLoadedIndex - HISTORY_PAGE_SIZE);
+        history.readAsync(from, (int) (oldestLoadedIndex - from))
+                .thenAccept(entries -> Platform.runLater(() -> {
+                    prependMessages(entries);
+                    // Keep the previously first message in view.
+                    scrollScheduler.scrollTo(entries.size());
+                    isLoadingOlderMessages = false;
+                }))
+                .exceptionally(error -> {
+                    LOGGER.log(Level.WARNING, "Error loading chat history", error);
+                    Platform.runLater(() -> isLoadingOlderMessages = false);
+                    return null;
+                });
+    }
+
+    /**
+     * Inserts messages read from the history at the top of the transcript.
+     *
+     * @param entries the history entries, oldest first.
+     */
+    private void prependMessages(List<ChatHistory.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<ChatMessage> messages = new ArrayList<>(entries.size());
+        for (ChatHistory.Entry entry : entries) {
+            messages.add(ChatMessage.fromHistory(entry));
+        }
+        transcript.getItems().addAll(0, messages);
+        oldestLoadedIndex = entries.get(0).getIndex();
     }
 
     /**
@@ -118,20 +305,23 @@ public class MainWindow extends AnchorPane {
      * @param response the response to display.
      */
     private void displayDuskResponse(DuskResponse response) {
-        if (response.getType() == DuskResponseType.ERROR) {
-            displayError(response.getMessage());
-        } else {
-            DialogBox duskDialog = DialogBox.getDuskDialog(response.getMessage(), duskImage, response.getType());
-            // Add the dialog and wait for it to be properly added
-            dialogContainer.getChildren().add(duskDialog);
+        displayDuskResponse(response, System.nanoTime());
+    }
 
-            // Wait for layout to complete before scrolling
-            duskDialog.needsLayoutProperty().addListener((observable, oldValue, newValue) -> {
-                if (!newValue) {  // Layout is complete
-                    scrollToBottom();
-                }
-            });
-        }
+    /**
+     * Displays Dusk's response in the dialog container, recording a {@link RenderEvent}
+     * for Java Flight Recorder.
+     *
+     * @param response   the response to display.
+     * @param readyNanos the {@link System#nanoTime()} at which the response was ready.
+     */
+    private void displayDuskResponse(DuskResponse response, long readyNanos) {
+        RenderEvent event = new RenderEvent();
+        event.start(readyNanos);
+        appendMessage(ChatMessage.fromDusk(response));
+        String leadingMessage = response.getLeadingMessage();
+        event.complete(leadingMessage == null ? 0 : leadingMessage.length(),
+                response.hasPayload() ? response.getPayload().size() : 0, transcript.getItems().size());
     }
 
     /**
@@ -140,23 +330,24 @@ public class MainWindow extends AnchorPane {
      * @param message the user message.
      */
     private void processUserMessage(String message) {
-        DialogBox userDialog = DialogBox.getUserDialog(message, userImage);
-        dialogContainer.getChildren().add(userDialog);
+        appendMessage(ChatMessage.fromUser(message));
 
         if (dusk != null) {
-            CompletableFuture.supplyAsync(() -> dusk.getResponse(message))
-                    .thenAccept(response -> Platform.runLater(() -> displayDuskResponse(response)))
-                    .exceptionally(error -> {
-                        Platform.runLater(() -> displayError("An unexpected error occurred: " + error.getMessage()));
-                        return null;
+            // A newer list or find supersedes one still running; its response is dropped.
+            requestLane.submit(() -> dusk.getResponse(message), Parser.isReadOnly(message))
+                    .whenComplete((response, error) -> {
+                        long readyNanos = System.nanoTime();
+                        Platform.runLater(() -> {
+                            if (error == null) {
+                                displayDuskResponse(response, readyNanos);
+                            } else if (error instanceof RejectedExecutionException) {
+                                displayError("Too many requests in progress. Please wait a moment.");
+                            } else if (!(error instanceof CancellationException)) {
+                                displayError("An unexpected error occurred: " + error.getMessage());
+                            }
+                        });
                     });
         }
-
-        userDialog.needsLayoutProperty().addListener((observable, oldValue, newValue) -> {
-            if (!newValue) {  // Layout is complete
-                scrollToBottom();
-            }
-        });
         clearUserInput();
     }
 
@@ -173,14 +364,30 @@ public class MainWindow extends AnchorPane {
      * @param errorMessage the error message to display.
      */
     private void displayError(String errorMessage) {
-        ErrorBox errorBox = new ErrorBox(errorMessage);
-        dialogContainer.getChildren().add(errorBox);
+        appendMessage(ChatMessage.error(errorMessage));
+    }
 
-        errorBox.needsLayoutProperty().addListener((observable, oldValue, newValue) -> {
-            if (!newValue) {  // Layout is complete
-                scrollToBottom();
-            }
-        });
+    /**
+     * Appends a message to the transcript and the history, and scrolls it into view.
+     * Only the most recent messages are kept in the transcript; older ones are reloaded
+     * from the history when the user scrolls back to them.
+     *
+     * @param message the message to append.
+     */
+    private void appendMessage(ChatMessage message) {
+        transcript.getItems().add(message);
+        // A long task list is rendered on the history thread, not here on the FX thread.
+        history.appendAsync(message.getHistoryKind(), message.getText(), message.getPayload())
+                .exceptionally(error -> {
+                    LOGGER.log(Level.WARNING, "Error saving chat history", error);
+                    return null;
+                });
+        int excess = transcript.getItems().size() - MAX_LOADED_MESSAGES;
+        if (isHistoryLoaded && excess > 0) {
+            transcript.getItems().remove(0, excess);
+            oldestLoadedIndex += excess;
+        }
+        scrollToBottom();
     }
 
     /**
@@ -190,6 +397,8 @@ public class MainWindow extends AnchorPane {
         // Disable input controls
         userInput.setDisable(true);
         sendButton.setDisable(true);
+        requestLane.shutdown();
+        searchLane.shutdown();
 
         // Schedule application termination
         CompletableFuture.delayedExecutor(5000, TimeUnit.MILLISECONDS)
@@ -205,22 +414,9 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Scrolls the dialog container to the bottom.
+     * Scrolls the transcript to the latest message on the next frame.
      */
     private void scrollToBottom() {
-        // Request layout pass to ensure all elements are properly sized
-        dialogContainer.requestLayout();
-
-        // Use Platform.runLater to ensure scroll happens after layout
-        Platform.runLater(() -> {
-            // Wait for next layout pass
-            dialogContainer.layout();
-
-            // Scroll to bottom
-            scrollPane.setVvalue(1.0);
-
-            // Double-check scroll in case of dynamic content loading
-            Platform.runLater(() -> scrollPane.setVvalue(1.0));
-        });
+        scrollScheduler.scrollToBottom();
     }
 }
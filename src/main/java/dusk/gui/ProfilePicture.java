@@ -6,9 +6,12 @@ import javafx.scene.layout.StackPane;
 
 /**
  * A component that displays a circular profile picture.
+ * Images from {@link AvatarCache} are already round and sized for the screen,
+ * so they are drawn without smoothing.
  */
 public class ProfilePicture extends StackPane {
-    private static final double DEFAULT_SIZE = 45.0;
+    /** The default size of a profile picture, in layout pixels. */
+    public static final double DEFAULT_SIZE = 45.0;
     private final ImageView imageView;
 
     /**
@@ -38,7 +41,7 @@ public class ProfilePicture extends StackPane {
         imageView.setFitWidth(size);
         imageView.setFitHeight(size);
         imageView.setPreserveRatio(true);
-        imageView.setSmooth(true);
+        imageView.setSmooth(false);
         getChildren().add(imageView);
         getStyleClass().add("profile-picture");
         setPrefSize(size, size);
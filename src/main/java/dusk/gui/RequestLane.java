@@ -0,0 +1,137 @@
+package dusk.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A serial lane that runs one window's requests in submission order on a dedicated thread.
+ * The queue is bounded, so a flood of input is rejected instead of piling up, and a request
+ * can be marked as supersedable: submitting another supersedable request cancels any earlier
+ * one still queued or running, e.g. a new {@code find} replaces a search the user no longer wants.
+ * Requests that change state are never cancelled.
+ */
+public class RequestLane {
+    /** The default maximum number of requests waiting behind the running one. */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final ThreadPoolExecutor executor;
+    private final List<Request<?>> supersedable = new ArrayList<>();
+
+    /**
+     * Constructs a RequestLane with the default capacity.
+     *
+     * @param name the name of the lane's thread.
+     */
+    public RequestLane(String name) {
+        this(name, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a RequestLane.
+     *
+     * @param name     the name of the lane's thread.
+     * @param capacity the maximum number of requests waiting behind the running one.
+     */
+    public RequestLane(String name, int capacity) {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Submits a request to run after all previously submitted requests.
+     * The returned future is cancelled if the request is superseded, and completes exceptionally
+     * with a {@link RejectedExecutionException} if the lane is full or shut down.
+     *
+     * @param task           the request to run.
+     * @param isSupersedable {@code true} if a later supersedable request may cancel this one.
+     * @param <T>            the type of the result.
+     * @return a future for the result of the request.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task, boolean isSupersedable) {
+        Request<T> request = new Request<>(task);
+        if (isSupersedable) {
+            List<Request<?>> superseded;
+            synchronized (supersedable) {
+                superseded = new ArrayList<>(supersedable);
+                supersedable.clear();
+                supersedable.add(request);
+            }
+            for (Request<?> previous : superseded) {
+                // Interrupts the lane thread if the previous request is running.
+                previous.cancel(true);
+                executor.remove(previous);
+            }
+        }
+        try {
+            executor.execute(request);
+        } catch (RejectedExecutionException e) {
+            request.result.completeExceptionally(e);
+        }
+        return request.result;
+    }
+
+    /**
+     * Returns the number of requests waiting behind the running one.
+     *
+     * @return the queue depth.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting requests and cancels those still waiting. The running request may finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        List<Runnable> waiting = new ArrayList<>();
+        executor.getQueue().drainTo(waiting);
+        for (Runnable request : waiting) {
+            ((Request<?>) request).cancel(false);
+        }
+    }
+
+    /**
+     * A queued request that completes its {@link CompletableFuture} when it finishes or is cancelled.
+     *
+     * @param <T> the type of the result.
+     */
+    private class Request<T> extends FutureTask<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Request(Callable<T> task) {
+            super(task);
+        }
+
+        @Override
+        protected void done() {
+            synchronized (supersedable) {
+                supersedable.remove(this);
+            }
+            if (isCancelled()) {
+                result.cancel(false);
+                return;
+            }
+            try {
+                result.complete(get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dusk.gui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.ListView;
+
+/**
+ * Coalesces scroll requests for a list view into at most one scroll per frame.
+ * A burst of messages therefore costs a single scroll on the next pulse rather than one
+ * layout per message. When several requests arrive in the same frame, the last one wins.
+ * Must be used on the JavaFX application thread.
+ */
+public class ScrollScheduler {
+    private static final int BOTTOM = -1;
+
+    private final ListView<?> listView;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            isPending = false;
+            scroll();
+        }
+    };
+    private int target = BOTTOM;
+    private boolean isPending;
+
+    /**
+     * Constructs a ScrollScheduler for the given list view.
+     *
+     * @param listView the list view to scroll.
+     */
+    public ScrollScheduler(ListView<?> listView) {
+        this.listView = listView;
+    }
+
+    /**
+     * Scrolls to the last item on the next frame.
+     */
+    public void scrollToBottom() {
+        schedule(BOTTOM);
+    }
+
+    /**
+     * Scrolls to the item at the given index on the next frame.
+     *
+     * @param index the index of the item to show at the top.
+     */
+    public void scrollTo(int index) {
+        schedule(index);
+    }
+
+    /**
+     * Records the scroll target and starts the timer if no scroll is pending.
+     *
+     * @param index the index to scroll to, or {@code BOTTOM}.
+     */
+    private void schedule(int index) {
+        target = index;
+        if (!isPending) {
+            isPending = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Performs the pending scroll.
+     */
+    private void scroll() {
+        int index = target == BOTTOM ? listView.getItems().size() - 1 : target;
+        if (index >= 0) {
+            listView.scrollTo(index);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package dusk.gui;
+
+import java.util.AbstractList;
+
+import dusk.ui.TaskListView;
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+
+/**
+ * A popup list showing search results while the user types a {@code find} command.
+ * Results may arrive faster than the screen refreshes; only the latest results are shown,
+ * and the list is updated at most once per frame. Must be used on the JavaFX application thread.
+ */
+public class SearchResultsView extends ListView<String> {
+    private static final double CELL_HEIGHT = 24.0;
+    private static final int MAX_VISIBLE_RESULTS = 6;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            apply();
+        }
+    };
+    private TaskListView pending;
+    private boolean isPendingHide;
+
+    /**
+     * Constructs a hidden SearchResultsView.
+     */
+    public SearchResultsView() {
+        setFixedCellSize(CELL_HEIGHT);
+        setFocusTraversable(false);
+        setVisible(false);
+        setPlaceholder(new Label("No matching tasks found!"));
+        getStyleClass().add("search-results");
+    }
+
+    /**
+     * Shows the given results on the next frame, replacing any results not yet shown.
+     *
+     * @param results the results to show.
+     */
+    public void show(TaskListView results) {
+        pending = results;
+        isPendingHide = false;
+        timer.start();
+    }
+
+    /**
+     * Hides the results on the next frame.
+     */
+    public void hide() {
+        pending = null;
+        isPendingHide = true;
+        timer.start();
+    }
+
+    /**
+     * Applies the latest pending update.
+     */
+    private void apply() {
+        if (isPendingHide) {
+            isPendingHide = false;
+            setVisible(false);
+            setItems(FXCollections.emptyObservableList());
+            return;
+        }
+        TaskListView results = pending;
+        pending = null;
+        if (results == null) {
+            return;
+        }
+        setItems(FXCollections.observableList(new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return results.getItem(index);
+            }
+
+            @Override
+            public int size() {
+                return results.size();
+            }
+        }));
+        setPrefHeight(CELL_HEIGHT * Math.max(1, Math.min(results.size(), MAX_VISIBLE_RESULTS)) + 2);
+        setVisible(true);
+    }
+}
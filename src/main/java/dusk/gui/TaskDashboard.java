@@ -0,0 +1,210 @@
+package dusk.gui;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.TaskListListener;
+import dusk.task.Todo;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+/**
+ * A side panel that shows the task list in a sortable, filterable table.
+ *
+ * <p>The table mirrors the task list through {@link TaskListListener} callbacks: each add, delete
+ * or mark is applied to the table as a single-row change, never as a full refresh. Callbacks arrive
+ * on the writer thread and are queued, then applied in one batch per pulse on the JavaFX thread.
+ * Sorting and filtering are done by {@link SortedList} and {@link FilteredList} views over the
+ * mirrored rows, and the table only creates cells for the visible rows.
+ */
+public class TaskDashboard extends VBox implements TaskListListener {
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ObservableList<Task> rows = FXCollections.observableArrayList();
+    private final FilteredList<Task> filteredRows = new FilteredList<>(rows);
+    private final TableView<Task> table = new TableView<>();
+    private final TextField filter = new TextField();
+    private final Queue<Runnable> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+    private boolean isSnapshotApplied;
+
+    /**
+     * Constructs an empty TaskDashboard. Rows appear once {@link #setSnapshot(TaskList)} is called.
+     */
+    public TaskDashboard() {
+        filter.setPromptText("Filter tasks");
+        filter.textProperty().addListener((observable, oldText, newText) -> applyFilter(newText));
+
+        SortedList<Task> sortedRows = new SortedList<>(filteredRows);
+        sortedRows.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sortedRows);
+        table.setPlaceholder(new Label("No tasks"));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.getColumns().add(column("Type", 50, TaskDashboard::typeOf));
+        table.getColumns().add(column("Done", 50, task -> task.getDone() ? "✓" : ""));
+        table.getColumns().add(column("Description", 160, Task::getDescription));
+        table.getColumns().add(column("When", 130, TaskDashboard::dateOf));
+
+        VBox.setVgrow(table, Priority.ALWAYS);
+        getChildren().addAll(filter, table);
+        getStyleClass().add("task-dashboard");
+    }
+
+    /**
+     * Shows the given tasks, then applies any changes received since the snapshot was taken.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param snapshot the tasks at the time this dashboard started listening.
+     */
+    public void setSnapshot(TaskList snapshot) {
+        rows.setAll(toRows(snapshot));
+        isSnapshotApplied = true;
+        drainChanges();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        enqueue(() -> rows.add(index, task));
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        enqueue(() -> rows.remove(index));
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        // Replacing the row with itself lets the filtered and sorted views re-evaluate just this row.
+        enqueue(() -> rows.set(index, task));
+    }
+
+    @Override
+    public void onTasksReplaced(TaskList snapshot) {
+        List<Task> tasks = toRows(snapshot);
+        enqueue(() -> rows.setAll(tasks));
+    }
+
+    /**
+     * Copies the tasks of a snapshot into a list of rows.
+     *
+     * @param snapshot the tasks to copy.
+     * @return the tasks in order.
+     */
+    private static List<Task> toRows(TaskList snapshot) {
+        List<Task> tasks = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            try {
+                tasks.add(snapshot.getTask(i));
+            } catch (TaskListException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Queues a change and schedules a drain on the JavaFX thread if none is pending.
+     *
+     * @param change the change to apply to the rows.
+     */
+    private void enqueue(Runnable change) {
+        pendingChanges.add(change);
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                isDrainScheduled.set(false);
+                drainChanges();
+            });
+        }
+    }
+
+    /**
+     * Applies all queued changes in order, once the snapshot is in place.
+     */
+    private void drainChanges() {
+        if (!isSnapshotApplied) {
+            return;
+        }
+        Runnable change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.run();
+        }
+    }
+
+    /**
+     * Shows only the tasks whose descriptions contain the filter text, ignoring case.
+     *
+     * @param text the filter text.
+     */
+    private void applyFilter(String text) {
+        String needle = text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+        filteredRows.setPredicate(needle.isEmpty()
+                ? null
+                : task -> task.getDescription().toLowerCase(Locale.ROOT).contains(needle));
+    }
+
+    /**
+     * Creates a sortable column whose cell values are computed from the task when the cell is shown.
+     *
+     * @param title     the column title.
+     * @param prefWidth the preferred width.
+     * @param value     computes the cell value.
+     * @return the column.
+     */
+    private static TableColumn<Task, String> column(String title, double prefWidth,
+                                                    Function<Task, String> value) {
+        TableColumn<Task, String> column = new TableColumn<>(title);
+        column.setPrefWidth(prefWidth);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.apply(cell.getValue())));
+        return column;
+    }
+
+    private static String typeOf(Task task) {
+        if (task instanceof Todo) {
+            return "T";
+        } else if (task instanceof Deadline) {
+            return "D";
+        } else if (task instanceof Event) {
+            return "E";
+        }
+        return "?";
+    }
+
+    /**
+     * Returns the date shown for a task, formatted so that it sorts chronologically.
+     *
+     * @param task the task.
+     * @return the deadline or event start, or an empty string for todos.
+     */
+    private static String dateOf(Task task) {
+        LocalDateTime date = null;
+        if (task instanceof Deadline deadline) {
+            date = deadline.getBy();
+        } else if (task instanceof Event event) {
+            date = event.getFrom();
+        }
+        return date == null ? "" : date.format(DATE_FORMATTER);
+    }
+}
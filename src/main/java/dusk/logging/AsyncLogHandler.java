@@ -0,0 +1,215 @@
+package dusk.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import dusk.metrics.Metrics;
+
+/**
+ * A logging handler that hands records to a background thread, which formats and writes them
+ * through another handler. Logging from the FX thread or a command thread therefore costs
+ * an enqueue instead of a write to the console, even when something is logging errors in a burst.
+ *
+ * <p>Records wait in a fixed-size lock-free buffer. When it is full, new records are dropped and
+ * counted rather than blocking the caller; the writer thread logs how many were dropped once it
+ * catches up. Closing the handler writes out everything still queued.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /** The default number of records that can wait to be written. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final Handler delegate;
+    private final RingBuffer<LogRecord> buffer;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread writer;
+    private volatile boolean isClosed;
+    private volatile boolean isWriterIdle;
+    private long reportedDropCount;
+
+    /**
+     * Constructs a handler that writes through the given handler on a new daemon thread.
+     *
+     * @param delegate the handler that formats and writes records.
+     * @param capacity the number of records that can wait to be written, which must be a power of two.
+     */
+    public AsyncLogHandler(Handler delegate, int capacity) {
+        this.delegate = delegate;
+        this.buffer = new RingBuffer<>(capacity);
+        this.writer = new Thread(this::writeRecords, "dusk-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Replaces each handler on the root logger with an {@code AsyncLogHandler} writing through it,
+     * and closes them at shutdown so queued records are not lost. The number of dropped records
+     * is published as the {@code log.dropped} gauge.
+     */
+    public static synchronized void install() {
+        Logger root = Logger.getLogger("");
+        List<AsyncLogHandler> installed = new ArrayList<>();
+        for (Handler handler : root.getHandlers()) {
+            if (handler instanceof AsyncLogHandler) {
+                continue;
+            }
+            AsyncLogHandler async = new AsyncLogHandler(handler, DEFAULT_CAPACITY);
+            root.removeHandler(handler);
+            root.addHandler(async);
+            Runtime.getRuntime().addShutdownHook(new Thread(async::close, "dusk-log-shutdown"));
+            installed.add(async);
+        }
+        if (!installed.isEmpty()) {
+            Metrics.getInstance().gauge("log.dropped",
+                    () -> installed.stream().mapToLong(AsyncLogHandler::getDroppedCount).sum());
+        }
+    }
+
+    /**
+     * Queues a record to be written, or drops it if the buffer is full. Never blocks.
+     *
+     * @param record the record to write.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record) || !delegate.isLoggable(record)) {
+            return;
+        }
+        // The source is inferred from the stack, which has to be this thread's.
+        record.getSourceClassName();
+        if (!buffer.offer(record)) {
+            droppedCount.increment();
+            return;
+        }
+        if (isWriterIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Waits until every record queued before this call has been written, then flushes the delegate.
+     */
+    @Override
+    public void flush() {
+        long queued = buffer.getAddedCount();
+        LockSupport.unpark(writer);
+        while (buffer.getRemovedCount() < queued && writer.isAlive()) {
+            LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Stops accepting records, writes out those still queued and closes the delegate.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     *
+     * @return the number of dropped records.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the number of records waiting to be written.
+     *
+     * @return the number of queued records.
+     */
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Runs on the writer thread: writes records as they arrive and parks while there are none,
+     * until the handler is closed and the buffer has been emptied.
+     */
+    private void writeRecords() {
+        boolean hasUnflushedRecords = false;
+        while (true) {
+            LogRecord record = buffer.poll();
+            if (record != null) {
+                write(record);
+                hasUnflushedRecords = true;
+                continue;
+            }
+            if (reportDroppedRecords() || hasUnflushedRecords) {
+                delegate.flush();
+                hasUnflushedRecords = false;
+            }
+            if (isClosed) {
+                // Records claimed just before closing may still be being published.
+                if (buffer.getRemovedCount() == buffer.getAddedCount()) {
+                    return;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            isWriterIdle = true;
+            if (buffer.size() == 0 && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            isWriterIdle = false;
+        }
+    }
+
+    /**
+     * Writes one record through the delegate, reporting rather than propagating failures.
+     *
+     * @param record the record to write.
+     */
+    private void write(LogRecord record) {
+        try {
+            delegate.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Error writing log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Logs how many records have been dropped since the last report, if any.
+     *
+     * @return true if a report was written.
+     */
+    private boolean reportDroppedRecords() {
+        long dropped = droppedCount.sum();
+        if (dropped == reportedDropCount) {
+            return false;
+        }
+        LogRecord record = new LogRecord(Level.WARNING, "Dropped " + (dropped - reportedDropCount)
+                + " log records because the log buffer was full");
+        record.setLoggerName(AsyncLogHandler.class.getName());
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("publish");
+        reportedDropCount = dropped;
+        write(record);
+        return true;
+    }
+}
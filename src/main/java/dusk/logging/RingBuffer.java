@@ -0,0 +1,113 @@
+package dusk.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer.
+ * Each slot carries a sequence number saying whether it is free for the producer at a given
+ * position or holds an element for the consumer, so producers only contend on one compare-and-set
+ * and never wait: when the buffer is full, {@link #offer} fails straight away.
+ *
+ * @param <E> the type of the elements.
+ */
+final class RingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Constructs an empty buffer.
+     *
+     * @param capacity the number of slots, which must be a power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two.");
+        }
+        elements = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     *
+     * @param element the element to add.
+     * @return true if the element was added, false if the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // Publishes the element to the consumer.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer has not yet taken the element written one lap ago.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be called from the consumer thread.
+     *
+     * @return the element, or null if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        // Frees the slot for the producer one lap ahead.
+        sequences.set(index, position + elements.length);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Returns the number of elements ever added.
+     *
+     * @return the number of elements added.
+     */
+    long getAddedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Returns the number of elements ever removed.
+     *
+     * @return the number of elements removed.
+     */
+    long getRemovedCount() {
+        return head;
+    }
+
+    /**
+     * Returns the approximate number of elements waiting, for monitoring.
+     *
+     * @return the number of elements waiting.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,134 @@
+package dusk.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, in the style of HdrHistogram.
+ * Values below {@value #LINEAR_LIMIT} are counted exactly; larger values fall into one of
+ * {@value #SUB_BUCKETS} equal buckets per power of two, so every reported percentile is within
+ * 1/{@value #SUB_BUCKETS} of the true value. Each bucket is a {@link LongAdder}, so threads recording
+ * at the same time do not contend, and reads see a close but not atomic view of the counts.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int LINEAR_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 1 - LINEAR_EXPONENT) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one latency. Negative values are recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency at the given percentile, rounded up to the top of its bucket.
+     *
+     * @param percentile the percentile, between 0 and 1, e.g. 0.99.
+     * @return the latency in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket a value falls into.
+     *
+     * @param value a non-negative value.
+     * @return the bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param bucket the bucket index.
+     * @return the inclusive upper bound of the bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_EXPONENT;
+        int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
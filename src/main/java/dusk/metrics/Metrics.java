@@ -0,0 +1,165 @@
+package dusk.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The process-wide registry of counters, gauges and latency histograms.
+ * Counters and histograms are created on first use and recorded without locks, so they can sit
+ * on the hot path; callers that record often should keep the returned instance in a field
+ * instead of looking it up each time. Gauges are computed only when read.
+ */
+public final class Metrics implements MetricsMXBean {
+
+    /** The JMX object name the registry is exported under. */
+    public static final String OBJECT_NAME = "dusk:type=Metrics";
+
+    private static final Logger LOGGER = Logger.getLogger(Metrics.class.getName());
+    private static final Metrics INSTANCE = new Metrics();
+    private static final String HIT_SUFFIX = ".hit";
+    private static final String MISS_SUFFIX = ".miss";
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty registry. Tests may create their own; the application uses {@link #getInstance()}.
+     */
+    public Metrics() {
+    }
+
+    /**
+     * Returns the process-wide registry.
+     *
+     * @return the registry.
+     */
+    public static Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Exports the process-wide registry through the platform MBean server, if not already exported.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Error registering metrics MBean", e);
+        }
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     *
+     * @param name the counter name.
+     * @return the counter.
+     */
+    public LongAdder counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Returns the latency histogram with the given name, creating it if needed.
+     *
+     * @param name the histogram name.
+     * @return the histogram.
+     */
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge with the same name.
+     *
+     * @param name     the gauge name.
+     * @param supplier computes the current value when the gauge is read.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    @Override
+    public SortedMap<String, Long> getCounters() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    @Override
+    public SortedMap<String, Long> getGauges() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                values.put(name, gauge.getAsLong());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, "Error reading gauge " + name, e);
+            }
+        });
+        return values;
+    }
+
+    @Override
+    public SortedMap<String, Long> getLatencies() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            values.put(name + ".count", histogram.getCount());
+            values.put(name + ".mean", Math.round(histogram.getMean()));
+            values.put(name + ".p50", histogram.getPercentile(0.50));
+            values.put(name + ".p99", histogram.getPercentile(0.99));
+            values.put(name + ".p999", histogram.getPercentile(0.999));
+            values.put(name + ".max", histogram.getMax());
+        });
+        return values;
+    }
+
+    /**
+     * Returns a human-readable report of every metric, with hit rates for each pair of
+     * {@code <name>.hit} and {@code <name>.miss} counters and latencies in milliseconds.
+     *
+     * @return the report, one line per entry.
+     */
+    @Override
+    public List<String> getReport() {
+        List<String> lines = new ArrayList<>();
+        SortedMap<String, Long> counterValues = getCounters();
+        lines.add("Counters:");
+        counterValues.forEach((name, value) -> lines.add(String.format("  %s = %d", name, value)));
+        counterValues.forEach((name, hits) -> {
+            if (name.endsWith(HIT_SUFFIX)) {
+                String prefix = name.substring(0, name.length() - HIT_SUFFIX.length());
+                long total = hits + counterValues.getOrDefault(prefix + MISS_SUFFIX, 0L);
+                if (total > 0) {
+                    lines.add(String.format("  %s hit rate = %.1f%%", prefix, 100.0 * hits / total));
+                }
+            }
+        });
+        lines.add("Gauges:");
+        getGauges().forEach((name, value) -> lines.add(String.format("  %s = %d", name, value)));
+        lines.add("Latencies (ms):");
+        new TreeMap<>(histograms).forEach((name, histogram) -> lines.add(String.format(
+                "  %s: n=%d mean=%.3f p50=%.3f p99=%.3f p999=%.3f max=%.3f", name, histogram.getCount(),
+                histogram.getMean() / 1e6, histogram.getPercentile(0.50) / 1e6, histogram.getPercentile(0.99) / 1e6,
+                histogram.getPercentile(0.999) / 1e6, histogram.getMax() / 1e6)));
+        return lines;
+    }
+}
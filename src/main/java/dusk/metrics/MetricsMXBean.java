@@ -0,0 +1,40 @@
+package dusk.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JMX view of the {@link Metrics} registry, registered as {@value Metrics#OBJECT_NAME}.
+ * All attributes are read-only and computed when read.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Returns the current value of every counter.
+     *
+     * @return the counters by name.
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Returns the current value of every gauge.
+     *
+     * @return the gauges by name.
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Returns the count, mean, p50, p99, p999 and maximum of every latency histogram,
+     * keyed as {@code <histogram>.<statistic>}, with latencies in nanoseconds.
+     *
+     * @return the latency statistics by key.
+     */
+    Map<String, Long> getLatencies();
+
+    /**
+     * Returns the same human-readable report as the {@code stats} command.
+     *
+     * @return the report, one line per entry.
+     */
+    List<String> getReport();
+}
@@ -0,0 +1,569 @@
+package dusk.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dusk.Dusk;
+import dusk.metrics.LatencyHistogram;
+import dusk.metrics.Metrics;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.time.DateTimeParser;
+import dusk.ui.DuskResponse;
+import dusk.ui.DuskResponseType;
+
+/**
+ * An optional HTTP API on the loopback interface, so that other local tools can work with the same
+ * Dusk instance as the window. It is started only when the {@value #PORT_PROPERTY} system property is set.
+ * <ul>
+ *     <li>{@code POST /command} runs the request body as a command, exactly as if it were typed,
+ *     and returns {@code {"type": ..., "message": ...}}.</li>
+ *     <li>{@code GET /tasks} returns the tasks as a JSON array, optionally filtered with the query
+ *     parameters {@code q} (keyword), {@code on} (date), or {@code from} and {@code to} (date range).
+ *     Dates use the same {@code yyyy-MM-dd[ HHmm]} layout as commands.</li>
+ * </ul>
+ *
+ * <p>Only requests from local tools are served. A request carrying an {@code Origin} header, as every
+ * cross-site request from a browser does, or naming a host other than the loopback interface, as a
+ * DNS-rebinding page would, is rejected with 403. {@code POST /command} must also carry the
+ * {@value #TOKEN_HEADER} header holding a random token chosen at each launch and written to
+ * {@code data/server.token}, readable only by the user; without it the request is rejected with 401.
+ * Request bodies over {@value #MAX_BODY_BYTES} bytes are rejected with 413.
+ *
+ * <p>Requests are handled on a pool of daemon threads, one request per thread. When every thread
+ * is busy, the server's dispatcher thread runs the request itself, which stops it accepting more
+ * until one finishes. Connections are kept alive between requests. Task listings are read from
+ * the executor's latest snapshot and written to the connection as they are generated; commands run
+ * meanwhile never change a snapshot, so a listing shows the tasks as of a single point in time.
+ */
+public class DuskServer {
+
+    /** The system property holding the port to listen on; {@code 0} picks a free port. */
+    public static final String PORT_PROPERTY = "dusk.server.port";
+
+    /** The maximum number of requests handled at once. */
+    public static final int MAX_THREADS = 64;
+
+    /** The request header that must hold the launch token on {@code POST /command}. */
+    public static final String TOKEN_HEADER = "X-Dusk-Token";
+
+    /** The file the launch token is written to while the server runs. */
+    public static final Path TOKEN_FILE = Paths.get("data", "server.token");
+
+    /** The largest request body accepted. */
+    public static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(DuskServer.class.getName());
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final Set<String> LOCAL_HOST_NAMES = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int TOKEN_BYTES = 32;
+
+    static {
+        // Without TCP_NODELAY, a response written in pieces waits on the client's delayed
+        // acknowledgement, capping a kept-alive connection at about 25 requests per second.
+        // The JDK server reads this once, when the first server is created.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final Function<String, DuskResponse> commands;
+    private final Supplier<TaskList> snapshots;
+    private final String token;
+    private final Path tokenFile;
+    private final LongAdder requestCount;
+    private final LongAdder errorCount;
+    private final LatencyHistogram commandLatency;
+    private final LatencyHistogram tasksLatency;
+
+    /**
+     * Constructs a server for the given Dusk instance. The server does not listen until started.
+     *
+     * @param dusk the Dusk instance to serve.
+     * @param port the port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public DuskServer(Dusk dusk, int port) throws IOException {
+        this(dusk::getResponse, () -> dusk.getExecutor().getSnapshot(), port, TOKEN_FILE, Metrics.getInstance());
+    }
+
+    /**
+     * Constructs a server over the given command and snapshot sources.
+     *
+     * @param commands  runs a command and returns the response.
+     * @param snapshots returns the latest snapshot of the tasks, which must not be modified.
+     * @param port      the port to listen on, or 0 for any free port.
+     * @param tokenFile the file to write the launch token to while the server runs, or null to not write it.
+     * @param metrics   the registry to record requests in.
+     * @throws IOException if the port cannot be bound.
+     */
+    DuskServer(Function<String, DuskResponse> commands, Supplier<TaskList> snapshots, int port, Path tokenFile,
+               Metrics metrics) throws IOException {
+        this.commands = commands;
+        this.snapshots = snapshots;
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HexFormat.of().formatHex(tokenBytes);
+        this.tokenFile = tokenFile;
+        this.requestCount = metrics.counter("server.requests");
+        this.errorCount = metrics.counter("server.errors");
+        this.commandLatency = metrics.histogram("server.command");
+        this.tasksLatency = metrics.histogram("server.tasks");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(0, MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dusk-http-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/command", this::handleCommand);
+        server.createContext("/tasks", this::handleTasks);
+    }
+
+    /**
+     * Returns whether the server has been requested.
+     *
+     * @return true if the {@value #PORT_PROPERTY} system property is set.
+     */
+    public static boolean isEnabled() {
+        return System.getProperty(PORT_PROPERTY) != null;
+    }
+
+    /**
+     * Returns the port requested through the {@value #PORT_PROPERTY} system property.
+     *
+     * @return the requested port.
+     * @throws NumberFormatException if the property is not a number.
+     */
+    public static int getConfiguredPort() {
+        return Integer.parseInt(System.getProperty(PORT_PROPERTY).trim());
+    }
+
+    /**
+     * Writes the launch token to its file and starts accepting requests.
+     *
+     * @throws IOException if the token file cannot be written.
+     */
+    public void start() throws IOException {
+        if (tokenFile != null) {
+            writeToken();
+        }
+        server.start();
+        LOGGER.info("HTTP API listening on http://localhost:" + getPort()
+                + (tokenFile != null ? ", token in " + tokenFile.toAbsolutePath() : ""));
+    }
+
+    /**
+     * Stops accepting requests, gives those in progress a moment to finish, releases the port
+     * and deletes the token file.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        if (tokenFile != null) {
+            try {
+                Files.deleteIfExists(tokenFile);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error deleting the HTTP API token file.", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the token that {@code POST /command} requests must carry in the {@value #TOKEN_HEADER} header.
+     *
+     * @return the launch token.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles {@code POST /command}.
+     *
+     * @param exchange the request and response.
+     * @throws IOException if the connection fails.
+     */
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try (exchange) {
+            requestCount.increment();
+            byte[] body = readBody(exchange);
+            if (body == null || !isFromLocalTool(exchange)) {
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange, "POST");
+                return;
+            }
+            if (!hasToken(exchange)) {
+                errorCount.increment();
+                sendError(exchange, 401, "Missing or wrong " + TOKEN_HEADER + " header.");
+                return;
+            }
+            String input = new String(body, StandardCharsets.UTF_8).trim();
+            DuskResponse response = commands.apply(input);
+            StringBuilder json = new StringBuilder("{\"type\":");
+            Json.appendString(json, response.getType().name());
+            json.append(",\"message\":");
+            Json.appendString(json, response.getMessage());
+            json.append('}');
+            if (response.getType() != DuskResponseType.NORMAL) {
+                errorCount.increment();
+            }
+            sendJson(exchange, statusOf(response.getType()), json.toString());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Error handling command request", e);
+            errorCount.increment();
+        } finally {
+            commandLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Handles {@code GET /tasks}, streaming the matching tasks from the latest snapshot.
+     *
+     * @param exchange the request and response.
+     * @throws IOException if the connection fails.
+     */
+    private void handleTasks(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try (exchange) {
+            requestCount.increment();
+            if (readBody(exchange) == null || !isFromLocalTool(exchange)) {
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange, "GET");
+                return;
+            }
+            TaskList tasks;
+            try {
+                tasks = filter(snapshots.get(), parseQuery(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                errorCount.increment();
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+            // A length of 0 sends the body in chunks, so it need not be built up in memory first.
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+                writeTasks(writer, tasks);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Error handling tasks request", e);
+            errorCount.increment();
+        } finally {
+            tasksLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Rejects the request with 403 unless it comes from a local tool rather than a web page:
+     * it must carry no {@code Origin} header and must name a loopback host.
+     *
+     * @param exchange the request and response.
+     * @return true if the request may be served.
+     * @throws IOException if the connection fails.
+     */
+    private boolean isFromLocalTool(HttpExchange exchange) throws IOException {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            errorCount.increment();
+            sendError(exchange, 403, "Requests from web pages are not accepted.");
+            return false;
+        }
+        if (!isLocalHost(exchange.getRequestHeaders().getFirst("Host"))) {
+            errorCount.increment();
+            sendError(exchange, 403, "Requests must be addressed to localhost.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the request carries the launch token, comparing in constant time.
+     *
+     * @param exchange the request.
+     * @return true if the {@value #TOKEN_HEADER} header holds the token.
+     */
+    private boolean hasToken(HttpExchange exchange) {
+        String given = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        return given != null && MessageDigest.isEqual(given.trim().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the request body, rejecting the request with 413 if it is over {@value #MAX_BODY_BYTES} bytes.
+     * Handlers call this before sending any response, since the JDK server closes a kept-alive
+     * connection whose request body was left unread, failing the client's next request on it.
+     *
+     * @param exchange the request and response.
+     * @return the body, or null if it was too large and the request has been rejected.
+     * @throws IOException if the connection fails.
+     */
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            errorCount.increment();
+            sendError(exchange, 413, "Request body is larger than " + MAX_BODY_BYTES + " bytes.");
+            return null;
+        }
+        return body;
+    }
+
+    /**
+     * Writes the launch token to the token file, readable only by the user where the file system allows.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeToken() throws IOException {
+        Path parent = tokenFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.deleteIfExists(tokenFile);
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFile,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.writeString(tokenFile, token);
+    }
+
+    /**
+     * Returns whether a {@code Host} header names the loopback interface, with or without a port.
+     *
+     * @param host the header value, or null if it is missing.
+     * @return true if the host is {@code localhost}, {@code 127.0.0.1} or {@code [::1]}.
+     */
+    static boolean isLocalHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int colon = host.lastIndexOf(':');
+        String name = colon > host.lastIndexOf(']') ? host.substring(0, colon) : host;
+        return LOCAL_HOST_NAMES.contains(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Applies the filters given in the query to the tasks.
+     *
+     * @param tasks      the tasks to filter, which are not modified.
+     * @param parameters the query parameters.
+     * @return the matching tasks, or {@code tasks} itself if there are no filters.
+     * @throws IllegalArgumentException if only one end of a date range is given.
+     * @throws DateTimeParseException   if a date cannot be parsed.
+     */
+    static TaskList filter(TaskList tasks, Map<String, String> parameters) {
+        String keyword = parameters.get("q");
+        LocalDateTime onDate = parseDate(parameters.get("on"));
+        LocalDateTime fromDate = parseDate(parameters.get("from"));
+        LocalDateTime toDate = parseDate(parameters.get("to"));
+        if ((fromDate == null) != (toDate == null)) {
+            throw new IllegalArgumentException("Both from and to must be specified together.");
+        }
+        if (keyword == null && onDate == null && fromDate == null) {
+            return tasks;
+        }
+        return tasks.search(keyword, onDate, fromDate, toDate);
+    }
+
+    /**
+     * Writes tasks as a JSON array.
+     *
+     * @param writer the writer to write to.
+     * @param tasks  the tasks.
+     * @throws IOException if writing fails.
+     */
+    static void writeTasks(Writer writer, TaskList tasks) throws IOException {
+        StringBuilder json = new StringBuilder(128);
+        writer.write('[');
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = getTask(tasks, i);
+            json.setLength(0);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"type\":");
+            if (task instanceof Deadline) {
+                json.append("\"deadline\",\"by\":\"").append(((Deadline) task).getBy()).append('"');
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                json.append("\"event\",\"from\":\"").append(event.getFrom())
+                        .append("\",\"to\":\"").append(event.getTo()).append('"');
+            } else {
+                json.append("\"todo\"");
+            }
+            json.append(",\"description\":");
+            Json.appendString(json, task.getDescription());
+            json.append(",\"done\":").append(task.getDone()).append('}');
+            writer.append(json);
+        }
+        writer.write(']');
+    }
+
+    /**
+     * Parses a URL query string into its parameters. Later values replace earlier ones.
+     *
+     * @param rawQuery the query, still URL-encoded, or null.
+     * @return the decoded parameters.
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            value = URLDecoder.decode(value, StandardCharsets.UTF_8).trim();
+            if (!value.isEmpty()) {
+                parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), value);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Parses an optional date parameter.
+     *
+     * @param value the parameter value, or null.
+     * @return the date, or null if the value is null.
+     * @throws DateTimeParseException if the value cannot be parsed.
+     */
+    private static LocalDateTime parseDate(String value) {
+        return value == null ? null : DateTimeParser.parse(value);
+    }
+
+    /**
+     * Returns the HTTP status for a response of the given type.
+     *
+     * @param type the response type.
+     * @return 200 for a normal response, 400 for a user error and 500 for a system error.
+     */
+    private static int statusOf(DuskResponseType type) {
+        switch (type) {
+        case NORMAL:
+            return 200;
+        case ERROR:
+            return 400;
+        default:
+            return 500;
+        }
+    }
+
+    /**
+     * Returns the task at an index known to be in range.
+     *
+     * @param tasks the tasks.
+     * @param index the zero-based index.
+     * @return the task.
+     */
+    private static Task getTask(TaskList tasks, int index) {
+        try {
+            return tasks.getTask(index);
+        } catch (TaskListException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sends a complete JSON response with a known length, which lets the connection be reused.
+     *
+     * @param exchange the exchange.
+     * @param status   the status code.
+     * @param json     the body.
+     * @throws IOException if the connection fails.
+     */
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Sends an error response in the same form as a command's response.
+     *
+     * @param exchange the exchange.
+     * @param status   the status code.
+     * @param message  the error message.
+     * @throws IOException if the connection fails.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"type\":\"ERROR\",\"message\":");
+        Json.appendString(json, message);
+        sendJson(exchange, status, json.append('}').toString());
+    }
+
+    /**
+     * Rejects a request made with the wrong method.
+     *
+     * @param exchange the exchange.
+     * @param allowed  the method the endpoint accepts.
+     * @throws IOException if the connection fails.
+     */
+    private static void sendMethodNotAllowed(HttpExchange exchange, String allowed) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        exchange.sendResponseHeaders(405, -1);
+    }
+}
@@ -0,0 +1,51 @@
+package dusk.server;
+
+/**
+ * Helpers for writing JSON by hand, which is all the HTTP API needs.
+ */
+final class Json {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Json() {
+        // Utility class.
+    }
+
+    /**
+     * Appends a string as a quoted JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param json  the JSON being built.
+     * @param value the string to append.
+     */
+    static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    json.append(c);
+                }
+                break;
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,392 @@
+package dusk.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import dusk.ui.TaskListView;
+
+/**
+ * An append-only log of chat messages with an index for random access.
+ *
+ * <p>The log file holds one record per message: a kind byte, the UTF-8 length as an int and the
+ * UTF-8 text. The index file holds the log offset of each record as a fixed-width long, so the
+ * start of any message, and hence any page of messages, is found with a single positional read.
+ * A record is written to the log before its offset is written to the index; on opening, index
+ * entries that point past the end of the log are dropped, along with any partially written record.
+ *
+ * <p>A message showing a task list is stored as plain text with at most {@value #MAX_STORED_ITEMS}
+ * of its items, so a listing of thousands of tasks neither bloats the log nor comes back as one
+ * huge message when the history is reloaded.
+ */
+public class ChatHistory implements Closeable {
+
+    /** The most task list items stored with a message; the rest are counted in a final line. */
+    public static final int MAX_STORED_ITEMS = 20;
+
+    private static final Path LOG_FILE = Paths.get("data", "history.log");
+    private static final Path INDEX_FILE = Paths.get("data", "history.idx");
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES;
+    private static final int RECORD_HEADER_BYTES = 1 + Integer.BYTES;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dusk-history");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private FileChannel log;
+    private FileChannel index;
+    private long size;
+
+    /**
+     * Constructs a ChatHistory stored in the default data directory.
+     */
+    public ChatHistory() {
+        this(LOG_FILE, INDEX_FILE);
+    }
+
+    /**
+     * Constructs a ChatHistory stored in the given files. The files are created when first used.
+     *
+     * @param logFile   the file holding the messages
+     * @param indexFile the file holding the offset of each message
+     */
+    public ChatHistory(Path logFile, Path indexFile) {
+        this.logFile = logFile;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * A message read back from the history.
+     */
+    public static class Entry {
+        private final long index;
+        private final byte kind;
+        private final String text;
+
+        /**
+         * Constructs an Entry.
+         *
+         * @param index the position of the message in the history
+         * @param kind  the caller-defined kind of the message
+         * @param text  the message text
+         */
+        public Entry(long index, byte kind, String text) {
+            this.index = index;
+            this.kind = kind;
+            this.text = text;
+        }
+
+        /**
+         * Returns the position of the message in the history.
+         *
+         * @return the message index, counting from 0 for the oldest
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the caller-defined kind the message was stored with.
+         *
+         * @return the message kind
+         */
+        public byte getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the stored message text.
+         *
+         * @return the message text
+         */
+        public String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * Returns the number of messages in the history.
+     *
+     * @return the message count
+     * @throws StorageException if the history cannot be opened
+     */
+    public synchronized long size() throws StorageException {
+        open();
+        return size;
+    }
+
+    /**
+     * Appends a message to the history.
+     *
+     * @param kind the caller-defined kind of the message
+     * @param text the message text
+     * @throws StorageException if an I/O error occurs
+     */
+    public synchronized void append(byte kind, String text) throws StorageException {
+        open();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bytes.length);
+        record.put(kind).putInt(bytes.length).put(bytes).flip();
+        try {
+            long offset = log.size();
+            writeFully(log, record, offset);
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+            entry.putLong(offset).flip();
+            writeFully(index, entry, size * INDEX_ENTRY_BYTES);
+            size++;
+        } catch (IOException e) {
+            throw new StorageException("An error occurred while handling I/O operations.");
+        }
+    }
+
+    /**
+     * Reads up to {@code count} consecutive messages starting at the given position.
+     *
+     * @param from  the position of the first message
+     * @param count the maximum number of messages to read
+     * @return the messages read, oldest first; fewer than {@code count} at the end of the history
+     * @throws StorageException if an I/O error occurs or the history is corrupted
+     */
+    public synchronized List<Entry> read(long from, int count) throws StorageException {
+        open();
+        long start = Math.max(0, from);
+        long end = Math.min(size, from + count);
+        List<Entry> entries = new ArrayList<>();
+        if (start >= end) {
+            return entries;
+        }
+        try {
+            long startOffset = readOffset(start);
+            long endOffset = end < size ? readOffset(end) : log.size();
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(endOffset - startOffset));
+            readFully(log, buffer, startOffset);
+            buffer.flip();
+            for (long i = start; i < end; i++) {
+                byte kind = buffer.get();
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                entries.add(new Entry(i, kind, new String(bytes, StandardCharsets.UTF_8)));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new StorageException("An error occurred while handling I/O operations.");
+        } catch (RuntimeException e) {
+            throw new StorageException("History corrupted: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the most recent messages.
+     *
+     * @param count the maximum number of messages to read
+     * @return the messages read, oldest first
+     * @throws StorageException if an I/O error occurs or the history is corrupted
+     */
+    public synchronized List<Entry> readLatest(int count) throws StorageException {
+        open();
+        return read(Math.max(0, size - count), count);
+    }
+
+    /**
+     * Asynchronously appends a message. Appends and reads submitted asynchronously run in order.
+     *
+     * @param kind the caller-defined kind of the message
+     * @param text the message text
+     * @return a CompletableFuture representing the append
+     * @throws CompletionException if a StorageException occurs during appending
+     */
+    public CompletableFuture<Void> appendAsync(byte kind, String text) throws CompletionException {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                append(kind, text);
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronously appends a message followed by at most {@value #MAX_STORED_ITEMS} items of a task list.
+     * The task list is rendered on the history thread rather than the caller's, so it must be backed by
+     * a list that is no longer modified, such as a command result or an executor snapshot.
+     *
+     * @param kind    the caller-defined kind of the message
+     * @param text    the message text
+     * @param payload the task list shown below the text (can be null)
+     * @return a CompletableFuture representing the append
+     * @throws CompletionException if a StorageException occurs during appending
+     */
+    public CompletableFuture<Void> appendAsync(byte kind, String text, TaskListView payload)
+            throws CompletionException {
+        if (payload == null) {
+            return appendAsync(kind, text);
+        }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                append(kind, text + payload.render(MAX_STORED_ITEMS));
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronously reads up to {@code count} consecutive messages starting at the given position.
+     *
+     * @param from  the position of the first message
+     * @param count the maximum number of messages to read
+     * @return a CompletableFuture resolving to the messages read, oldest first
+     * @throws CompletionException if a StorageException occurs during reading
+     */
+    public CompletableFuture<List<Entry>> readAsync(long from, int count) throws CompletionException {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(from, count);
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronously reads the most recent messages.
+     *
+     * @param count the maximum number of messages to read
+     * @return a CompletableFuture resolving to the messages read, oldest first
+     * @throws CompletionException if a StorageException occurs during reading
+     */
+    public CompletableFuture<List<Entry>> readLatestAsync(int count) throws CompletionException {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return readLatest(count);
+            } catch (StorageException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Closes the history files and stops the background thread.
+     *
+     * @throws IOException if an I/O error occurs while closing
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        executor.shutdown();
+        if (log != null) {
+            log.close();
+            index.close();
+            log = null;
+            index = null;
+        }
+    }
+
+    /**
+     * Opens the history files if they are not open yet, discarding any incomplete trailing record.
+     *
+     * @throws StorageException if the files cannot be opened
+     */
+    private void open() throws StorageException {
+        if (log != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(logFile.toAbsolutePath().getParent());
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new StorageException("An error occurred while handling I/O operations.");
+        }
+    }
+
+    /**
+     * Drops index entries whose records were not completely written, then trims both files
+     * to the last complete record.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void recover() throws IOException {
+        long logSize = log.size();
+        size = index.size() / INDEX_ENTRY_BYTES;
+        long logEnd = 0;
+        while (size > 0) {
+            long offset = readOffset(size - 1);
+            if (offset + RECORD_HEADER_BYTES <= logSize) {
+                ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+                readFully(log, header, offset);
+                long recordEnd = offset + RECORD_HEADER_BYTES + header.getInt(1);
+                if (recordEnd <= logSize) {
+                    logEnd = recordEnd;
+                    break;
+                }
+            }
+            size--;
+        }
+        index.truncate(size * INDEX_ENTRY_BYTES);
+        log.truncate(logEnd);
+    }
+
+    /**
+     * Reads the log offset of the message at the given position.
+     *
+     * @param position the position of the message
+     * @return the offset of its record in the log
+     * @throws IOException if an I/O error occurs
+     */
+    private long readOffset(long position) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+        readFully(index, entry, position * INDEX_ENTRY_BYTES);
+        return entry.getLong(0);
+    }
+
+    /**
+     * Writes the whole buffer to the channel at the given position.
+     *
+     * @param channel  the channel to write to
+     * @param buffer   the bytes to write
+     * @param position the file position to start writing at
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Fills the buffer from the channel starting at the given position.
+     *
+     * @param channel  the channel to read from
+     * @param buffer   the buffer to fill
+     * @param position the file position to start reading at
+     * @throws IOException if an I/O error occurs or the file ends first
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of history file");
+            }
+            position += read;
+        }
+    }
+}
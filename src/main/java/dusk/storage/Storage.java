@@ -12,28 +12,76 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import dusk.diagnostics.StorageEvent;
+import dusk.metrics.LatencyHistogram;
+import dusk.metrics.Metrics;
 import dusk.task.Deadline;
 import dusk.task.Event;
 import dusk.task.Task;
 import dusk.task.TaskList;
 import dusk.task.TaskListException;
 import dusk.task.Todo;
+import dusk.time.DateTimeParser;
 
 /**
  * Manages read and write operations for task data in persistent storage.
  * Provides synchronous and asynchronous methods to load and save a TaskList.
+ * Each instance has its own data file and its own thread for asynchronous operations,
+ * so instances for different files never wait for each other. The thread exits when idle.
  */
 public class Storage {
 
+    /** The data file used when none is given. */
+    public static final Path DEFAULT_DATA_FILE = Paths.get("data", "data.txt");
+
     private static final DateTimeFormatter STORAGE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd[ HHmm]");
 
-    private static final Path DATA_FILE = Paths.get("data", "data.txt");
+    private static final long IDLE_THREAD_SECONDS = 30;
+
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+
+    private static final AtomicInteger PENDING_SAVES = new AtomicInteger();
+
+    private static final LatencyHistogram SAVE_LATENCY = Metrics.getInstance().histogram("storage.save");
+
+    private static final LatencyHistogram LOAD_LATENCY = Metrics.getInstance().histogram("storage.load");
+
+    static {
+        Metrics.getInstance().gauge("storage.saveQueueDepth", PENDING_SAVES::get);
+        Metrics.getInstance().gauge("storage.bytesWritten", BYTES_WRITTEN::sum);
+    }
+
+    private final Path dataFile;
+
+    private final ThreadPoolExecutor executorService;
+
+    /**
+     * Constructs a Storage for the default data file.
+     */
+    public Storage() {
+        this(DEFAULT_DATA_FILE);
+    }
 
-    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor();
+    /**
+     * Constructs a Storage for the given data file.
+     *
+     * @param dataFile the path to the data file
+     */
+    public Storage(Path dataFile) {
+        this.dataFile = dataFile;
+        // Operations run one at a time and in order, so a load queued after a save sees its result.
+        String threadName = "dusk-storage-" + dataFile.getFileName();
+        this.executorService = new ThreadPoolExecutor(1, 1, IDLE_THREAD_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, threadName));
+        executorService.allowCoreThreadTimeOut(true);
+    }
 
     /**
      * Returns the data file path.
@@ -41,7 +89,7 @@ public class Storage {
      * @return the path to the data file
      */
     protected Path getDataFile() {
-        return DATA_FILE;
+        return dataFile;
     }
 
     /**
@@ -52,13 +100,16 @@ public class Storage {
      * @throws CompletionException if a StorageException occurs during saving
      */
     public CompletableFuture<Void> saveTasksAsync(TaskList tasks) throws CompletionException {
+        PENDING_SAVES.incrementAndGet();
         return CompletableFuture.runAsync(() -> {
             try {
                 saveTasks(tasks);
             } catch (StorageException e) {
                 throw new CompletionException(e);
+            } finally {
+                PENDING_SAVES.decrementAndGet();
             }
-        }, EXECUTOR_SERVICE);
+        }, executorService);
     }
 
     /**
@@ -74,7 +125,7 @@ public class Storage {
             } catch (StorageException e) {
                 throw new CompletionException(e);
             }
-        }, EXECUTOR_SERVICE);
+        }, executorService);
     }
 
     /**
@@ -85,6 +136,11 @@ public class Storage {
      */
     public void saveTasks(TaskList tasks) throws StorageException {
         Path dataFile = getDataFile();
+        StorageEvent event = new StorageEvent(StorageEvent.SAVE);
+        event.begin();
+        long start = System.nanoTime();
+        long bytes = 0;
+        boolean isSuccessful = false;
         try {
             Files.createDirectories(dataFile.getParent());
             try (BufferedWriter writer = Files.newBufferedWriter(dataFile, StandardCharsets.UTF_8)) {
@@ -95,10 +151,16 @@ public class Storage {
                     writer.newLine();
                 }
             }
+            bytes = Files.size(dataFile);
+            BYTES_WRITTEN.add(bytes);
+            isSuccessful = true;
         } catch (IOException e) {
             throw new StorageException("An error occurred while handling I/O operations.");
         } catch (IllegalArgumentException | TaskListException e) {
             throw new StorageException("Error saving tasks: " + e.getMessage());
+        } finally {
+            SAVE_LATENCY.record(System.nanoTime() - start);
+            event.complete(bytes, tasks.size(), isSuccessful);
         }
     }
 
@@ -111,11 +173,18 @@ public class Storage {
     public TaskList loadTasks() throws StorageException {
         TaskList tasks = new TaskList();
         Path dataFile = getDataFile();
+        StorageEvent event = new StorageEvent(StorageEvent.LOAD);
+        event.begin();
+        long start = System.nanoTime();
+        long bytes = 0;
+        boolean isSuccessful = false;
         try {
             Files.createDirectories(dataFile.getParent());
             if (!Files.exists(dataFile)) {
+                isSuccessful = true;
                 return tasks;
             }
+            bytes = Files.size(dataFile);
             try (BufferedReader reader = Files.newBufferedReader(dataFile, StandardCharsets.UTF_8)) {
                 String line;
                 while ((line = reader.readLine()) != null) {
@@ -123,17 +192,32 @@ public class Storage {
                     tasks.addTask(task);
                 }
             }
+            isSuccessful = true;
             return tasks;
         } catch (IOException e) {
             throw new StorageException("An error occurred while handling I/O operations.");
+        } finally {
+            LOAD_LATENCY.record(System.nanoTime() - start);
+            event.complete(bytes, tasks.size(), isSuccessful);
         }
     }
 
+    /**
+     * Returns the total number of bytes written to data files by all Storage instances
+     * since the application started.
+     *
+     * @return the number of bytes written
+     */
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.sum();
+    }
+
     /**
      * Shuts down the executor service used for asynchronous operations.
+     * Operations already queued still run.
      */
     public void shutdownExecutor() {
-        EXECUTOR_SERVICE.shutdown();
+        executorService.shutdown();
     }
 
     /**
@@ -244,7 +328,7 @@ public class Storage {
             return null;
         }
         try {
-            return LocalDateTime.parse(dateTimeString, STORAGE_FORMATTER);
+            return DateTimeParser.parse(dateTimeString);
         } catch (DateTimeParseException e) {
             throw new StorageException("Invalid date format: \"" + dateTimeString + "\"");
         }
@@ -0,0 +1,130 @@
+package dusk.task;
+
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.LongAdder;
+
+import dusk.metrics.Metrics;
+
+/**
+ * Searches task descriptions as the user types, reusing work between keystrokes.
+ *
+ * <p>Descriptions are lower-cased once per task list rather than once per search. When a query
+ * extends the previous one on the same task list, only the previous matches are checked again,
+ * since a task that did not contain the shorter keyword cannot contain the longer one.
+ * Matching is case-insensitive, as in {@link TaskList#search}.
+ *
+ * <p>Instances are not thread-safe; use one per search lane. A search stops early with a
+ * {@link CancellationException} if the calling thread is interrupted, leaving the reusable
+ * state as it was before that search.
+ */
+public class IncrementalSearch {
+    // How many tasks are checked between interruption checks.
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+    private static final LongAdder INDEX_HITS = Metrics.getInstance().counter("search.index.hit");
+    private static final LongAdder INDEX_MISSES = Metrics.getInstance().counter("search.index.miss");
+    private static final LongAdder REFINE_HITS = Metrics.getInstance().counter("search.refine.hit");
+    private static final LongAdder REFINE_MISSES = Metrics.getInstance().counter("search.refine.miss");
+
+    private TaskList source;
+    private String[] descriptions = new String[0];
+    private String lastKeyword;
+    private int[] lastMatches = new int[0];
+    private int lastMatchCount;
+    private int lastCheckedCount;
+
+    /**
+     * Returns the tasks whose descriptions contain the keyword, ignoring case, in list order.
+     * The task list must not be modified while it is being searched; executor snapshots satisfy this.
+     *
+     * @param tasks   the tasks to search
+     * @param keyword the keyword to look for
+     * @return the matching tasks
+     * @throws CancellationException if the calling thread is interrupted during the search
+     */
+    public TaskList search(TaskList tasks, String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        if (tasks != source) {
+            INDEX_MISSES.increment();
+            index(tasks);
+        } else {
+            INDEX_HITS.increment();
+        }
+
+        boolean isRefinement = lastKeyword != null && needle.startsWith(lastKeyword);
+        (isRefinement ? REFINE_HITS : REFINE_MISSES).increment();
+        int candidateCount = isRefinement ? lastMatchCount : descriptions.length;
+        int[] matches = new int[candidateCount];
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            checkCancelled(i);
+            int taskIndex = isRefinement ? lastMatches[i] : i;
+            if (descriptions[taskIndex].contains(needle)) {
+                matches[matchCount++] = taskIndex;
+            }
+        }
+
+        lastKeyword = needle;
+        lastMatches = matches;
+        lastMatchCount = matchCount;
+        lastCheckedCount = candidateCount;
+        return collect(matches, matchCount);
+    }
+
+    /**
+     * Returns how many tasks the last search checked, which is less than the list size
+     * when the search refined an earlier result.
+     *
+     * @return the number of tasks checked by the last search
+     */
+    public int getLastCheckedCount() {
+        return lastCheckedCount;
+    }
+
+    /**
+     * Lower-cases every description of a new task list and forgets the previous results.
+     *
+     * @param tasks the task list to index
+     * @throws CancellationException if the calling thread is interrupted while indexing
+     */
+    private void index(TaskList tasks) {
+        String[] lowered = new String[tasks.size()];
+        for (int i = 0; i < lowered.length; i++) {
+            checkCancelled(i);
+            lowered[i] = taskAt(tasks, i).getDescription().toLowerCase(Locale.ROOT);
+        }
+        source = tasks;
+        descriptions = lowered;
+        lastKeyword = null;
+        lastMatchCount = 0;
+    }
+
+    /**
+     * Builds a task list from matched indices.
+     *
+     * @param matches    the indices of the matching tasks
+     * @param matchCount the number of valid entries in {@code matches}
+     * @return the matching tasks
+     */
+    private TaskList collect(int[] matches, int matchCount) {
+        TaskList result = new TaskList();
+        for (int i = 0; i < matchCount; i++) {
+            result.addTask(taskAt(source, matches[i]));
+        }
+        return result;
+    }
+
+    private static Task taskAt(TaskList tasks, int index) {
+        try {
+            return tasks.getTask(index);
+        } catch (TaskListException e) {
+            throw new IllegalStateException("Task list changed during search.", e);
+        }
+    }
+
+    private static void checkCancelled(int position) {
+        if (position % CANCELLATION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Search cancelled.");
+        }
+    }
+}
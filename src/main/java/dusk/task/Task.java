@@ -2,10 +2,15 @@ package dusk.task;
 
 /**
  * Abstract representation of a task with a description and completion status.
+ * Once a task is in a list that other threads can see, it is not changed in place:
+ * {@link TaskList#setDone(int, boolean)} replaces it with a copy from {@link #withDone(boolean)},
+ * so snapshots of the list keep showing the task as it was.
  */
-public abstract class Task {
+public abstract class Task implements Cloneable {
 
     private final String description;
+    // Shared by a task and its copies, so the copies are recognised as the same task.
+    private final Object identity = new Object();
     private boolean isDone;
 
     /**
@@ -19,19 +24,45 @@ public abstract class Task {
     }
 
     /**
-     * Marks the task as done.
+     * Marks the task as done. Only for tasks not yet shared, such as while loading.
      */
     public void markDone() {
         this.isDone = true;
     }
 
     /**
-     * Marks the task as not done.
+     * Marks the task as not done. Only for tasks not yet shared, such as while loading.
      */
     public void markUndone() {
         this.isDone = false;
     }
 
+    /**
+     * Returns a copy of this task with the given completion status, leaving this task unchanged.
+     *
+     * @param isDone true if the copy is done, false otherwise
+     * @return the copy
+     */
+    public Task withDone(boolean isDone) {
+        try {
+            Task copy = (Task) clone();
+            copy.isDone = isDone;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Checks whether another task is this task or a copy of it made by {@link #withDone(boolean)}.
+     *
+     * @param other the task to compare with
+     * @return true if both are versions of the same task; false otherwise
+     */
+    public boolean isSameTask(Task other) {
+        return other != null && other.identity == identity;
+    }
+
     /**
      * Retrieves the task description.
      *
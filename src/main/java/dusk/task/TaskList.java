@@ -3,6 +3,7 @@ package dusk.task;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 /**
  * Manages a collection of tasks.
@@ -10,6 +11,9 @@ import java.util.List;
 public class TaskList {
 
     private final List<Task> tasks;
+    // Listeners are notified with indexed loops: search builds its result through addTask, and once
+    // the executor's listener makes these loops polymorphic, an iterator would be allocated per match.
+    private final List<TaskListListener> listeners = new ArrayList<>();
 
     /**
      * Constructs an empty TaskList.
@@ -18,6 +22,17 @@ public class TaskList {
         tasks = new ArrayList<>();
     }
 
+    /**
+     * Constructs a TaskList holding the same tasks as another list, in the same order.
+     * The tasks themselves are shared, not copied, and listeners are not carried over. Since tasks
+     * are replaced rather than changed when marked, later changes to either list do not affect the other.
+     *
+     * @param other the task list to copy
+     */
+    public TaskList(TaskList other) {
+        tasks = new ArrayList<>(other.tasks);
+    }
+
     /**
      * Adds a task to the list.
      *
@@ -25,6 +40,26 @@ public class TaskList {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskAdded(tasks.size() - 1, task);
+        }
+    }
+
+    /**
+     * Inserts a task at the specified index, shifting later tasks back by one.
+     *
+     * @param index the index to insert at (0-based)
+     * @param task  the task to insert
+     * @throws TaskListException if the index is out of bounds
+     */
+    public void insertTask(int index, Task task) throws TaskListException {
+        if (index < 0 || index > tasks.size()) {
+            throw new TaskListException("Invalid task index.");
+        }
+        tasks.add(index, task);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskAdded(index, task);
+        }
     }
 
     /**
@@ -38,7 +73,11 @@ public class TaskList {
         if (index < 0 || index >= tasks.size()) {
             throw new TaskListException("Invalid task index.");
         }
-        return tasks.remove(index);
+        Task task = tasks.remove(index);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskRemoved(index, task);
+        }
+        return task;
     }
 
     /**
@@ -53,7 +92,7 @@ public class TaskList {
         if (task.getDone()) {
             throw new MarkTaskException("Task is already marked as done.");
         }
-        task.markDone();
+        setDone(index, true);
     }
 
     /**
@@ -68,7 +107,42 @@ public class TaskList {
         if (!task.getDone()) {
             throw new MarkTaskException("Task is already unmarked.");
         }
-        task.markUndone();
+        setDone(index, false);
+    }
+
+    /**
+     * Sets whether the task at the specified index is done, whatever its current state.
+     * The task is replaced with an updated copy rather than changed in place,
+     * so copies of this list made earlier are not affected.
+     *
+     * @param index  the index of the task (0-based)
+     * @param isDone true to mark the task as done, false to mark it as not done
+     * @throws TaskListException if the index is out of bounds
+     */
+    public void setDone(int index, boolean isDone) throws TaskListException {
+        Task task = getTask(index).withDone(isDone);
+        tasks.set(index, task);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskUpdated(index, task);
+        }
+    }
+
+    /**
+     * Registers a listener to be told about subsequent changes to this list.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -108,17 +182,23 @@ public class TaskList {
      * If a keyword is provided, only tasks whose descriptions contain the keyword are returned.
      * If a specific date is provided, only tasks on that date (via isOnDate) are returned.
      * If both fromDate and toDate are provided, only tasks within the date range (via isWithinRange) are returned.
+     * The search stops early if the calling thread is interrupted, so that a superseded query
+     * does not keep scanning a long list.
      *
      * @param keyword  search keyword (optional)
      * @param date     specific date to search for (optional)
      * @param fromDate start date of the range (optional)
      * @param toDate   end date of the range (optional)
      * @return a TaskList of tasks matching the criteria
+     * @throws CancellationException if the calling thread is interrupted during the search
      */
     public TaskList search(String keyword, LocalDateTime date,
                            LocalDateTime fromDate, LocalDateTime toDate) {
         TaskList result = new TaskList();
         for (Task task : tasks) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Search cancelled.");
+            }
             boolean matches = keyword == null || task.getDescription().toLowerCase().contains(keyword.toLowerCase());
             if (date != null) {
                 boolean onDate = false;
@@ -0,0 +1,42 @@
+package dusk.task;
+
+/**
+ * Receives changes made to a {@link TaskList}.
+ * Callbacks run on the thread that modifies the list, immediately after each change,
+ * so implementations should be quick and hand work off to other threads if needed.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called when a task is added or inserted.
+     *
+     * @param index the index of the new task (0-based)
+     * @param task  the task added
+     */
+    void onTaskAdded(int index, Task task);
+
+    /**
+     * Called when a task is removed.
+     *
+     * @param index the index the task was removed from (0-based)
+     * @param task  the task removed
+     */
+    void onTaskRemoved(int index, Task task);
+
+    /**
+     * Called when a task is marked or unmarked.
+     *
+     * @param index the index of the task (0-based)
+     * @param task  the task updated
+     */
+    void onTaskUpdated(int index, Task task);
+
+    /**
+     * Called when the listener is moved to a different task list, such as after switching workspaces.
+     * The snapshot holds the tasks of the new list, and later callbacks describe changes to it.
+     *
+     * @param snapshot a copy of the new task list
+     */
+    default void onTasksReplaced(TaskList snapshot) {
+    }
+}
@@ -0,0 +1,153 @@
+package dusk.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import dusk.metrics.Metrics;
+
+/**
+ * Parses date/time strings in the fixed layout {@code yyyy-MM-dd[ HHmm]} used by both user input
+ * and the data file. Repeated values resolve to the same canonical {@link LocalDateTime} instance,
+ * so loading many tasks that share a few hundred dates retains only one object per distinct date.
+ * The cache is emptied whenever it fills up, so that in a long session it comes to hold the dates
+ * in current use rather than the first few thousand ever seen.
+ */
+public final class DateTimeParser {
+
+    /** Maximum number of canonical instances retained. */
+    static final int CACHE_CAPACITY = 4096;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 15;
+
+    private static final ConcurrentMap<Long, LocalDateTime> CANONICAL = new ConcurrentHashMap<>();
+    private static final LongAdder CACHE_HITS = Metrics.getInstance().counter("cache.dateTime.hit");
+    private static final LongAdder CACHE_MISSES = Metrics.getInstance().counter("cache.dateTime.miss");
+
+    private DateTimeParser() {
+        // Utility class.
+    }
+
+    /**
+     * Parses a date or date-time string in the layout {@code yyyy-MM-dd[ HHmm]}.
+     * A day beyond the end of the month is clamped to the last valid day and {@code 2400} rolls over
+     * to midnight of the next day, matching the smart resolution of the formatter this replaces.
+     *
+     * @param text the text to parse
+     * @return the canonical LocalDateTime for the parsed value
+     * @throws DateTimeParseException if the text does not match the layout
+     */
+    public static LocalDateTime parse(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        if (length != DATE_LENGTH && length != DATE_TIME_LENGTH) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed", text, 0);
+        }
+        int year = parseDigits(text, 0, 4);
+        expect(text, 4, '-');
+        int month = parseDigits(text, 5, 2);
+        expect(text, 7, '-');
+        int day = parseDigits(text, 8, 2);
+        int hour = 0;
+        int minute = 0;
+        if (length == DATE_TIME_LENGTH) {
+            expect(text, 10, ' ');
+            hour = parseDigits(text, 11, 2);
+            minute = parseDigits(text, 13, 2);
+        }
+
+        boolean isEndOfDay = hour == 24 && minute == 0;
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31
+                || (hour > 23 && !isEndOfDay) || minute > 59) {
+            throw new DateTimeParseException("Text '" + text + "' is out of range", text, 0);
+        }
+        day = Math.min(day, Month.of(month).length(Year.isLeap(year)));
+        if (isEndOfDay) {
+            return canonical(LocalDate.of(year, month, day).plusDays(1).atStartOfDay());
+        }
+        return canonical(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the canonical instance equal to the given date-time, if it has minute precision.
+     *
+     * @param dateTime the date-time to canonicalize
+     * @return the shared instance equal to {@code dateTime}, or {@code dateTime} itself
+     */
+    public static LocalDateTime canonical(LocalDateTime dateTime) {
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            return dateTime;
+        }
+        return canonical(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute());
+    }
+
+    /**
+     * Returns the canonical instance for the given fields, creating it if necessary.
+     * A new value that finds the cache full empties it before being retained. Instances already
+     * handed out stay valid; values seen again afterwards simply get a new canonical instance.
+     *
+     * @param year   the year
+     * @param month  the month of year
+     * @param day    the day of month
+     * @param hour   the hour of day
+     * @param minute the minute of hour
+     * @return the canonical LocalDateTime for the fields
+     */
+    private static LocalDateTime canonical(int year, int month, int day, int hour, int minute) {
+        long key = ((((long) year * 13 + month) * 32 + day) * 24 + hour) * 60 + minute;
+        LocalDateTime cached = CANONICAL.get(key);
+        if (cached != null) {
+            CACHE_HITS.increment();
+            return cached;
+        }
+        CACHE_MISSES.increment();
+        LocalDateTime created = LocalDateTime.of(year, month, day, hour, minute);
+        if (CANONICAL.size() >= CACHE_CAPACITY) {
+            CANONICAL.clear();
+        }
+        LocalDateTime existing = CANONICAL.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Parses a run of ASCII digits.
+     *
+     * @param text  the text being parsed
+     * @param start the index of the first digit
+     * @param count the number of digits
+     * @return the parsed value
+     * @throws DateTimeParseException if any character is not a digit
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Text '" + text + "' could not be parsed at index " + i, text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Checks that the character at the given index is the expected separator.
+     *
+     * @param text     the text being parsed
+     * @param index    the index of the separator
+     * @param expected the expected separator
+     * @throws DateTimeParseException if the character does not match
+     */
+    private static void expect(CharSequence text, int index, char expected) {
+        if (text.charAt(index) != expected) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed at index " + index,
+                    text, index);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package dusk.time;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Parses relative dates such as {@code today}, {@code tomorrow 1400}, {@code next fri},
+ * {@code in 3 days} and {@code eow}, resolved against a {@link Clock}.
+ * Keywords are recognised by walking a trie built once when the class loads,
+ * so parsing is a single pass over the input with no regular expressions or substrings.
+ *
+ * <p>Grammar, case-insensitive, with words separated by spaces:
+ * <pre>
+ *   date := today | tomorrow | yesterday | eow | [next] weekday | next week | in N (day|days|week|weeks)
+ *   input := date [HHmm]
+ * </pre>
+ * A bare weekday resolves to its next occurrence on or after today; {@code next} skips today.
+ * Without an explicit time, dates resolve to midnight, except {@code eow} which resolves to
+ * Sunday at 23:59.
+ */
+public class RelativeDateParser {
+
+    private static final int TOKEN_NONE = 0;
+    private static final int TOKEN_TODAY = 1;
+    private static final int TOKEN_TOMORROW = 2;
+    private static final int TOKEN_YESTERDAY = 3;
+    private static final int TOKEN_EOW = 4;
+    private static final int TOKEN_NEXT = 5;
+    private static final int TOKEN_IN = 6;
+    private static final int TOKEN_DAY = 7;
+    private static final int TOKEN_WEEK = 8;
+    // Weekday tokens are TOKEN_WEEKDAY + DayOfWeek.getValue() - 1.
+    private static final int TOKEN_WEEKDAY = 16;
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private static final int[][] TRIE_CHILDREN;
+    private static final int[] TRIE_TOKENS;
+
+    static {
+        Object[][] keywords = {
+            {"today", TOKEN_TODAY}, {"tdy", TOKEN_TODAY},
+            {"tomorrow", TOKEN_TOMORROW}, {"tmr", TOKEN_TOMORROW}, {"tmrw", TOKEN_TOMORROW},
+            {"yesterday", TOKEN_YESTERDAY},
+            {"eow", TOKEN_EOW},
+            {"next", TOKEN_NEXT},
+            {"in", TOKEN_IN},
+            {"day", TOKEN_DAY}, {"days", TOKEN_DAY},
+            {"week", TOKEN_WEEK}, {"weeks", TOKEN_WEEK},
+            {"mon", weekday(DayOfWeek.MONDAY)}, {"monday", weekday(DayOfWeek.MONDAY)},
+            {"tue", weekday(DayOfWeek.TUESDAY)}, {"tues", weekday(DayOfWeek.TUESDAY)},
+            {"tuesday", weekday(DayOfWeek.TUESDAY)},
+            {"wed", weekday(DayOfWeek.WEDNESDAY)}, {"wednesday", weekday(DayOfWeek.WEDNESDAY)},
+            {"thu", weekday(DayOfWeek.THURSDAY)}, {"thur", weekday(DayOfWeek.THURSDAY)},
+            {"thurs", weekday(DayOfWeek.THURSDAY)}, {"thursday", weekday(DayOfWeek.THURSDAY)},
+            {"fri", weekday(DayOfWeek.FRIDAY)}, {"friday", weekday(DayOfWeek.FRIDAY)},
+            {"sat", weekday(DayOfWeek.SATURDAY)}, {"saturday", weekday(DayOfWeek.SATURDAY)},
+            {"sun", weekday(DayOfWeek.SUNDAY)}, {"sunday", weekday(DayOfWeek.SUNDAY)},
+        };
+
+        int maxNodes = 1;
+        for (Object[] keyword : keywords) {
+            maxNodes += ((String) keyword[0]).length();
+        }
+        int[][] children = new int[maxNodes][];
+        int[] tokens = new int[maxNodes];
+        children[0] = new int[ALPHABET_SIZE];
+        int nodeCount = 1;
+        for (Object[] keyword : keywords) {
+            String word = (String) keyword[0];
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int letter = word.charAt(i) - 'a';
+                if (children[node][letter] == 0) {
+                    children[nodeCount] = new int[ALPHABET_SIZE];
+                    children[node][letter] = nodeCount++;
+                }
+                node = children[node][letter];
+            }
+            tokens[node] = (Integer) keyword[1];
+        }
+        TRIE_CHILDREN = Arrays.copyOf(children, nodeCount);
+        TRIE_TOKENS = Arrays.copyOf(tokens, nodeCount);
+    }
+
+    private final Clock clock;
+
+    /**
+     * Constructs a RelativeDateParser that resolves dates against the given clock.
+     *
+     * @param clock the clock supplying the current date
+     */
+    public RelativeDateParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses a relative date with an optional {@code HHmm} time.
+     *
+     * @param text the text to parse
+     * @return the resolved date and time
+     * @throws DateTimeParseException if the text is not a recognised relative date
+     */
+    public LocalDateTime parse(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        int position = skipSpaces(text, 0);
+        int wordEnd = endOfWord(text, position);
+        int token = lookup(text, position, wordEnd);
+        position = skipSpaces(text, wordEnd);
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate date;
+        int defaultMinuteOfDay = 0;
+        switch (token) {
+        case TOKEN_TODAY:
+            date = today;
+            break;
+        case TOKEN_TOMORROW:
+            date = today.plusDays(1);
+            break;
+        case TOKEN_YESTERDAY:
+            date = today.minusDays(1);
+            break;
+        case TOKEN_EOW:
+            date = today.plusDays(DayOfWeek.SUNDAY.getValue() - today.getDayOfWeek().getValue());
+            defaultMinuteOfDay = 23 * 60 + 59;
+            break;
+        case TOKEN_NEXT:
+            wordEnd = endOfWord(text, position);
+            int next = lookup(text, position, wordEnd);
+            date = next == TOKEN_WEEK ? today.plusWeeks(1) : nextWeekday(today, next, text, position, true);
+            position = skipSpaces(text, wordEnd);
+            break;
+        case TOKEN_IN:
+            int numberEnd = endOfDigits(text, position);
+            if (numberEnd == position || numberEnd - position > 4) {
+                throw error(text, position);
+            }
+            int amount = parseNumber(text, position, numberEnd);
+            position = skipSpaces(text, numberEnd);
+            wordEnd = endOfWord(text, position);
+            int unit = lookup(text, position, wordEnd);
+            if (unit == TOKEN_DAY) {
+                date = today.plusDays(amount);
+            } else if (unit == TOKEN_WEEK) {
+                date = today.plusWeeks(amount);
+            } else {
+                throw error(text, position);
+            }
+            position = skipSpaces(text, wordEnd);
+            break;
+        default:
+            date = nextWeekday(today, token, text, 0, false);
+            break;
+        }
+
+        int minuteOfDay = defaultMinuteOfDay;
+        if (position < length) {
+            minuteOfDay = parseTime(text, position);
+        }
+        return DateTimeParser.canonical(date.atTime(minuteOfDay / 60, minuteOfDay % 60));
+    }
+
+    /**
+     * Returns the trie token for a weekday.
+     *
+     * @param day the day of week
+     * @return the token identifying the weekday
+     */
+    private static int weekday(DayOfWeek day) {
+        return TOKEN_WEEKDAY + day.getValue() - 1;
+    }
+
+    /**
+     * Resolves a weekday token to its next occurrence.
+     *
+     * @param today          the current date
+     * @param token          the token expected to be a weekday
+     * @param text           the text being parsed, for error reporting
+     * @param position       the position of the token, for error reporting
+     * @param isTodaySkipped true if today does not count as an occurrence
+     * @return the next occurrence of the weekday
+     * @throws DateTimeParseException if the token is not a weekday
+     */
+    private static LocalDate nextWeekday(LocalDate today, int token, CharSequence text, int position,
+                                         boolean isTodaySkipped) {
+        if (token < TOKEN_WEEKDAY || token >= TOKEN_WEEKDAY + 7) {
+            throw error(text, position);
+        }
+        int target = token - TOKEN_WEEKDAY + 1;
+        int daysAhead = Math.floorMod(target - today.getDayOfWeek().getValue(), 7);
+        if (daysAhead == 0 && isTodaySkipped) {
+            daysAhead = 7;
+        }
+        return today.plusDays(daysAhead);
+    }
+
+    /**
+     * Walks the trie over a lower- or upper-case ASCII word.
+     *
+     * @param text  the text being parsed
+     * @param start the start of the word
+     * @param end   the end of the word (exclusive)
+     * @return the token for the word, or {@code TOKEN_NONE} if it is not a keyword
+     */
+    private static int lookup(CharSequence text, int start, int end) {
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            int letter = (text.charAt(i) | 0x20) - 'a';
+            node = TRIE_CHILDREN[node][letter];
+            if (node == 0) {
+                return TOKEN_NONE;
+            }
+        }
+        return TRIE_TOKENS[node];
+    }
+
+    /**
+     * Parses a trailing {@code HHmm} time.
+     *
+     * @param text     the text being parsed
+     * @param position the start of the time
+     * @return the minute of day
+     * @throws DateTimeParseException if the remaining text is not a valid time
+     */
+    private static int parseTime(CharSequence text, int position) {
+        int end = endOfDigits(text, position);
+        if (end - position != 4 || skipSpaces(text, end) != text.length()) {
+            throw error(text, position);
+        }
+        int hour = parseNumber(text, position, position + 2);
+        int minute = parseNumber(text, position + 2, end);
+        if (hour > 23 || minute > 59) {
+            throw error(text, position);
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Parses a run of ASCII digits.
+     *
+     * @param text  the text being parsed
+     * @param start the first digit
+     * @param end   the end of the digits (exclusive)
+     * @return the parsed value
+     */
+    private static int parseNumber(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the index of the first non-space character at or after the given position.
+     *
+     * @param text     the text being parsed
+     * @param position the position to start from
+     * @return the index of the next non-space character, or the text length
+     */
+    private static int skipSpaces(CharSequence text, int position) {
+        while (position < text.length() && text.charAt(position) == ' ') {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the end of the run of ASCII letters starting at the given position.
+     *
+     * @param text     the text being parsed
+     * @param position the position to start from
+     * @return the index just past the last letter
+     */
+    private static int endOfWord(CharSequence text, int position) {
+        while (position < text.length()) {
+            char c = (char) (text.charAt(position) | 0x20);
+            if (c < 'a' || c > 'z') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the end of the run of ASCII digits starting at the given position.
+     *
+     * @param text     the text being parsed
+     * @param position the position to start from
+     * @return the index just past the last digit
+     */
+    private static int endOfDigits(CharSequence text, int position) {
+        while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Creates the exception reported for unrecognised input.
+     *
+     * @param text     the text being parsed
+     * @param position the position of the error
+     * @return the exception to throw
+     */
+    private static DateTimeParseException error(CharSequence text, int position) {
+        return new DateTimeParseException("Text '" + text + "' is not a recognised relative date", text, position);
+    }
+}
@@ -14,11 +14,21 @@ import java.util.Objects;
 
 /**
  * Provides console-based input/output functionality.
+ * A DuskIO either wraps a reader and writer, or collects output for a single response
+ * in a buffer reused by the current thread (see {@link #forResponse()}).
  */
 public class DuskIO implements Closeable {
 
+    // Buffers larger than this are released rather than kept for reuse by the thread.
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> RESPONSE_BUFFERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     private final BufferedReader bufferedReader;
     private final BufferedWriter bufferedWriter;
+    private final StringBuilder responseBuffer;
+    private TaskListView payload;
 
     /**
      * Constructs a DuskIO instance with the specified input and output streams.
@@ -30,6 +40,7 @@ public class DuskIO implements Closeable {
     public DuskIO(InputStream inputStream, OutputStream outputStream) {
         this.bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
         this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream));
+        this.responseBuffer = null;
     }
 
     /**
@@ -42,29 +53,119 @@ public class DuskIO implements Closeable {
     public DuskIO(Reader reader, Writer writer) {
         this.bufferedReader = new BufferedReader(Objects.requireNonNull(reader, "Reader cannot be null"));
         this.bufferedWriter = new BufferedWriter(Objects.requireNonNull(writer, "Writer cannot be null"));
+        this.responseBuffer = null;
+    }
+
+    /**
+     * Constructs a DuskIO that collects output in the given buffer and has no input side.
+     *
+     * @param responseBuffer the buffer receiving output
+     */
+    private DuskIO(StringBuilder responseBuffer) {
+        this.bufferedReader = null;
+        this.bufferedWriter = null;
+        this.responseBuffer = responseBuffer;
+    }
+
+    /**
+     * Creates a DuskIO that collects the output of a single command in a buffer owned by the
+     * current thread, avoiding per-command reader and writer allocations.
+     * Only one such DuskIO may be open on a thread at a time.
+     *
+     * @return a DuskIO with an empty response buffer
+     */
+    public static DuskIO forResponse() {
+        StringBuilder buffer = RESPONSE_BUFFERS.get();
+        buffer.setLength(0);
+        return new DuskIO(buffer);
+    }
+
+    /**
+     * Returns the output collected so far by a DuskIO created with {@link #forResponse()}.
+     *
+     * @return the collected output
+     * @throws IllegalStateException if this DuskIO writes to a writer
+     */
+    public String getResponse() {
+        if (responseBuffer == null) {
+            throw new IllegalStateException("DuskIO is not collecting a response.");
+        }
+        return responseBuffer.toString();
     }
 
     /**
-     * Prints one or more messages to the output, each prefixed with a tab and followed by a newline.
+     * Prints one or more messages to the output, each followed by a newline.
+     * Output is buffered until {@link #flush()} or {@link #close()} is called.
      *
      * @param messages an array of messages to be printed
      * @throws IOException if an I/O error occurs during writing
      */
     public void print(String... messages) throws IOException {
+        if (responseBuffer != null) {
+            for (String message : messages) {
+                responseBuffer.append(message).append(System.lineSeparator());
+            }
+            return;
+        }
         for (String message : messages) {
             bufferedWriter.write(message);
             bufferedWriter.newLine();
         }
-        bufferedWriter.flush();
+    }
+
+    /**
+     * Prints a list of tasks under a header.
+     * A response DuskIO keeps the view as a structured payload so the front-end can render the
+     * items lazily; a writer-backed DuskIO streams the header and items line by line.
+     *
+     * @param view the tasks to print
+     * @throws IOException if an I/O error occurs during writing
+     */
+    public void printTaskList(TaskListView view) throws IOException {
+        if (responseBuffer != null && payload == null) {
+            payload = view;
+            return;
+        }
+        print(view.getHeader());
+        for (int i = 0; i < view.size(); i++) {
+            print(view.getItem(i));
+        }
+    }
+
+    /**
+     * Returns the task list printed by a response DuskIO, if any.
+     *
+     * @return the structured payload, or null if no task list was printed
+     */
+    public TaskListView getPayload() {
+        return payload;
+    }
+
+    /**
+     * Flushes buffered output to the underlying writer.
+     *
+     * @throws IOException if an I/O error occurs during flushing
+     */
+    public void flush() throws IOException {
+        if (bufferedWriter != null) {
+            bufferedWriter.flush();
+        }
     }
 
     /**
      * Closes the input and output resources.
+     * For a response DuskIO, the thread's buffer is released if it has grown unusually large.
      *
      * @throws IOException if an I/O error occurs during closing
      */
     @Override
     public void close() throws IOException {
+        if (responseBuffer != null) {
+            if (responseBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+                RESPONSE_BUFFERS.remove();
+            }
+            return;
+        }
         bufferedReader.close();
         bufferedWriter.close();
     }
@@ -1,12 +1,15 @@
 package dusk.ui;
 
 /**
- * Represents a response containing a message and a response type.
+ * Represents a response containing a message and a response type,
+ * optionally followed by a structured list of tasks.
  */
 public class DuskResponse {
 
     private final String message;
     private final DuskResponseType type;
+    private final TaskListView payload;
+    private String fullMessage;
 
     /**
      * Constructs a DuskResponse with the specified message and response type.
@@ -15,19 +18,65 @@ public class DuskResponse {
      * @param type    the type of the response
      */
     public DuskResponse(String message, DuskResponseType type) {
+        this(message, type, null);
+    }
+
+    /**
+     * Constructs a DuskResponse with the specified message, response type and task list payload.
+     *
+     * @param message the text preceding the payload
+     * @param type    the type of the response
+     * @param payload the task list to show after the message (nullable)
+     */
+    public DuskResponse(String message, DuskResponseType type, TaskListView payload) {
         this.message = message;
         this.type = type;
+        this.payload = payload;
     }
 
     /**
-     * Returns the response message.
+     * Returns the full response message, including any payload rendered as text.
+     * Front-ends that can display the payload directly should prefer {@link #getPayload()}.
      *
      * @return the message
      */
     public String getMessage() {
+        if (payload == null) {
+            return message;
+        }
+        if (fullMessage == null) {
+            fullMessage = message + payload.render();
+        }
+        return fullMessage;
+    }
+
+    /**
+     * Returns the text preceding the payload, without the payload itself.
+     *
+     * @return the leading message
+     */
+    public String getLeadingMessage() {
         return message;
     }
 
+    /**
+     * Returns the structured task list carried by this response.
+     *
+     * @return the payload, or null if the response is plain text
+     */
+    public TaskListView getPayload() {
+        return payload;
+    }
+
+    /**
+     * Checks whether this response carries a structured task list.
+     *
+     * @return true if a payload is present; false otherwise
+     */
+    public boolean hasPayload() {
+        return payload != null;
+    }
+
     /**
      * Returns the response type.
      *
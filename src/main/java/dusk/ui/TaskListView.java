@@ -0,0 +1,91 @@
+package dusk.ui;
+
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+
+/**
+ * A read-only view of tasks to be shown to the user under a header.
+ * Items are rendered on demand, so front-ends can display or stream a long list
+ * without first building it into a single string. The underlying task list must not be
+ * modified while the view is in use; command results and executor snapshots satisfy this.
+ * Tasks are replaced rather than changed when marked, so the view renders each task as it was
+ * when the list was built, however late it is rendered.
+ */
+public class TaskListView {
+
+    private final String header;
+    private final TaskList tasks;
+
+    /**
+     * Constructs a TaskListView.
+     *
+     * @param header the header shown above the items
+     * @param tasks  the tasks to show
+     */
+    public TaskListView(String header, TaskList tasks) {
+        this.header = header;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Returns the header shown above the items.
+     *
+     * @return the header
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the number of items.
+     *
+     * @return the item count
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Renders the item at the specified index as a numbered line.
+     *
+     * @param index the index of the item (0-based)
+     * @return the rendered line, numbered from 1
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String getItem(int index) {
+        try {
+            return (index + 1) + ". " + tasks.getTask(index);
+        } catch (TaskListException e) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Renders the header and all items, one per line.
+     *
+     * @return the full text of the view
+     */
+    public String render() {
+        return render(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Renders the header and at most the given number of items, one per line, followed by
+     * a line counting the items left out, if any.
+     *
+     * @param maxItems the maximum number of items to render
+     * @return the text of the view, shortened to {@code maxItems} items
+     */
+    public String render(int maxItems) {
+        String newline = System.lineSeparator();
+        StringBuilder builder = new StringBuilder(header).append(newline);
+        int shown = Math.min(size(), maxItems);
+        for (int i = 0; i < shown; i++) {
+            builder.append(getItem(i)).append(newline);
+        }
+        if (shown < size()) {
+            builder.append("... and ").append(size() - shown).append(" more").append(newline);
+        }
+        return builder.toString();
+    }
+}
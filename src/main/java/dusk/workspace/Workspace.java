@@ -0,0 +1,165 @@
+package dusk.workspace;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dusk.command.CommandExecutor;
+import dusk.command.CommandJournal;
+import dusk.storage.Storage;
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+
+/**
+ * A named task list that is loaded in memory, with its own writer thread and undo history.
+ * Callers hold a workspace between {@link WorkspaceManager#acquire(String)} and {@link #release()},
+ * and a workspace is only evicted while nobody holds it, so a command never runs against
+ * a workspace whose writer thread has been stopped.
+ */
+public class Workspace {
+
+    // A rough per-task cost of the task object, its dates and its slots in the list and snapshot.
+    private static final long BYTES_PER_TASK = 160;
+
+    private final String name;
+    private final Storage storage;
+    private final TaskList tasks;
+    private final CommandExecutor executor;
+    private final CommandJournal journal = new CommandJournal();
+    // The number of callers holding the workspace, or -1 once it has been evicted.
+    private final AtomicInteger holders = new AtomicInteger();
+    private volatile long lastUsedNanos;
+
+    /**
+     * Constructs a workspace over loaded tasks and starts its writer thread.
+     *
+     * @param name    the workspace name.
+     * @param storage the storage the tasks were loaded from and are saved to.
+     * @param tasks   the loaded tasks, which the writer thread takes ownership of.
+     */
+    Workspace(String name, Storage storage, TaskList tasks) {
+        this.name = name;
+        this.storage = storage;
+        this.tasks = tasks;
+        this.executor = new CommandExecutor(tasks, name);
+    }
+
+    /**
+     * Returns the workspace name.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the storage the tasks are saved to.
+     *
+     * @return the storage.
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the live task list. It must only be read or changed on the writer thread.
+     *
+     * @return the task list.
+     */
+    public TaskList getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the executor that applies commands to the task list.
+     *
+     * @return the command executor.
+     */
+    public CommandExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the undo history of this workspace.
+     *
+     * @return the journal.
+     */
+    public CommandJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gives up the hold taken by {@link WorkspaceManager#acquire(String)}, letting the workspace be evicted
+     * once nobody else holds it.
+     */
+    public void release() {
+        holders.updateAndGet(count -> count > 0 ? count - 1 : count);
+    }
+
+    /**
+     * Takes a hold on the workspace, unless it has been evicted.
+     *
+     * @param now the current time in nanoseconds, recorded as the last use.
+     * @return true if the hold was taken.
+     */
+    boolean hold(long now) {
+        int count;
+        do {
+            count = holders.get();
+            if (count < 0) {
+                return false;
+            }
+        } while (!holders.compareAndSet(count, count + 1));
+        lastUsedNanos = now;
+        return true;
+    }
+
+    /**
+     * Stops the writer thread if nobody holds the workspace. Saves already queued still complete.
+     *
+     * @return true if the workspace was evicted.
+     */
+    boolean evict() {
+        if (!holders.compareAndSet(0, -1)) {
+            return false;
+        }
+        executor.shutdown();
+        return true;
+    }
+
+    /**
+     * Stops the writer thread whether or not the workspace is held, when the application closes.
+     */
+    void close() {
+        holders.set(-1);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns when the workspace was last acquired.
+     *
+     * @return the time in nanoseconds.
+     */
+    long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    /**
+     * Estimates the memory the workspace retains, from the number and length of its tasks.
+     *
+     * @return the estimated size in bytes.
+     */
+    long estimateBytes() {
+        TaskList snapshot = executor.getSnapshot();
+        long bytes = 0;
+        try {
+            for (int i = 0; i < snapshot.size(); i++) {
+                Task task = snapshot.getTask(i);
+                bytes += BYTES_PER_TASK + 2L * task.getDescription().length();
+            }
+        } catch (TaskListException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes;
+    }
+}
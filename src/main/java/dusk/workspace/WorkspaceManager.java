@@ -0,0 +1,327 @@
+package dusk.workspace;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import dusk.metrics.Metrics;
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+
+/**
+ * Keeps named workspaces in memory while they are in use. Each workspace is stored in its own file
+ * in the data directory: the {@value #DEFAULT_WORKSPACE} workspace in {@code data.txt} and every other
+ * in {@code <name>.txt}. A workspace is loaded the first time it is acquired, so workspaces that are
+ * never used cost nothing, and later acquisitions are served from memory.
+ *
+ * <p>Workspaces other than the active one are evicted once they have been idle for the idle timeout,
+ * and least recently used first while the estimated memory of all loaded workspaces exceeds the budget.
+ * Evicting a workspace drops its tasks and undo history from memory; its saves still complete, and
+ * loading it again reads the file only after they have.
+ */
+public class WorkspaceManager implements AutoCloseable {
+
+    /** The workspace used until another is chosen. */
+    public static final String DEFAULT_WORKSPACE = "default";
+
+    /** How long a workspace other than the active one stays loaded after its last use, by default. */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    /** The estimated memory that loaded workspaces may use before the least recently used are evicted. */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(WorkspaceManager.class.getName());
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9][a-z0-9_-]{0,31}");
+    private static final String DEFAULT_FILE_NAME = "data.txt";
+    private static final String FILE_SUFFIX = ".txt";
+    private static final long MIN_EVICTION_PERIOD_MILLIS = 1000;
+    private static final LongAdder CACHE_HITS = Metrics.getInstance().counter("workspace.cache.hit");
+    private static final LongAdder CACHE_MISSES = Metrics.getInstance().counter("workspace.cache.miss");
+    private static final LongAdder EVICTIONS = Metrics.getInstance().counter("workspace.evictions");
+
+    private final Path directory;
+    private final long idleTimeoutNanos;
+    private final long memoryBudget;
+    private final LongSupplier clock;
+    private final Map<String, Storage> storages = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Workspace>> workspaces = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictionExecutor;
+    private volatile String activeName = DEFAULT_WORKSPACE;
+
+    /**
+     * Constructs a manager for the workspaces in the given directory, with the default idle timeout
+     * and memory budget.
+     *
+     * @param directory the directory holding the workspace files.
+     */
+    public WorkspaceManager(Path directory) {
+        this(directory, DEFAULT_IDLE_TIMEOUT, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructs a manager for the workspaces in the given directory, checking for idle workspaces
+     * on a background thread.
+     *
+     * @param directory    the directory holding the workspace files.
+     * @param idleTimeout  how long an inactive workspace stays loaded after its last use.
+     * @param memoryBudget the estimated bytes that loaded workspaces may use.
+     */
+    public WorkspaceManager(Path directory, Duration idleTimeout, long memoryBudget) {
+        this(directory, idleTimeout, memoryBudget, System::nanoTime);
+        long period = Math.max(MIN_EVICTION_PERIOD_MILLIS, idleTimeout.toMillis() / 4);
+        evictionExecutor.scheduleWithFixedDelay(this::evictSafely, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs a manager that only evicts when {@link #evict()} is called, reading time from the given clock.
+     *
+     * @param directory    the directory holding the workspace files.
+     * @param idleTimeout  how long an inactive workspace stays loaded after its last use.
+     * @param memoryBudget the estimated bytes that loaded workspaces may use.
+     * @param clock        returns the current time in nanoseconds.
+     */
+    WorkspaceManager(Path directory, Duration idleTimeout, long memoryBudget, LongSupplier clock) {
+        this.directory = directory;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.memoryBudget = memoryBudget;
+        this.clock = clock;
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dusk-workspace-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns whether a name can be used for a workspace: 1 to 32 lower-case letters, digits,
+     * hyphens or underscores, starting with a letter or digit, and not the name of the default file.
+     *
+     * @param name the name to check.
+     * @return true if the name is valid.
+     */
+    public static boolean isValidName(String name) {
+        return NAME_PATTERN.matcher(name).matches() && !(name + FILE_SUFFIX).equals(DEFAULT_FILE_NAME);
+    }
+
+    /**
+     * Returns the named workspace, loading it if it is not in memory, and holds it until
+     * {@link Workspace#release()} is called. A held workspace is never evicted.
+     *
+     * @param name the workspace name.
+     * @return the workspace.
+     * @throws StorageException         if the workspace cannot be loaded.
+     * @throws IllegalArgumentException if the name is not valid.
+     */
+    public Workspace acquire(String name) throws StorageException {
+        if (!isValidName(name)) {
+            throw new IllegalArgumentException("Invalid workspace name: " + name);
+        }
+        while (true) {
+            CompletableFuture<Workspace> future = workspaces.get(name);
+            boolean isLoadedHere = false;
+            if (future == null) {
+                CompletableFuture<Workspace> loading = new CompletableFuture<>();
+                future = workspaces.putIfAbsent(name, loading);
+                if (future == null) {
+                    future = loading;
+                    isLoadedHere = true;
+                    CACHE_MISSES.increment();
+                    load(name, loading);
+                }
+            }
+            if (!isLoadedHere) {
+                CACHE_HITS.increment();
+            }
+            Workspace workspace;
+            try {
+                workspace = future.join();
+            } catch (CompletionException e) {
+                workspaces.remove(name, future);
+                throw e.getCause() instanceof StorageException
+                        ? (StorageException) e.getCause()
+                        : new StorageException("Failed to load workspace " + name + ": " + e.getCause().getMessage());
+            }
+            if (workspace.hold(clock.getAsLong())) {
+                if (isLoadedHere) {
+                    evictSafely();
+                }
+                return workspace;
+            }
+            // Evicted between the lookup and the hold; load it again.
+            workspaces.remove(name, future);
+        }
+    }
+
+    /**
+     * Takes another hold on a workspace returned by {@link #acquire(String)}, unless it has since been evicted.
+     * Unlike {@code acquire}, this is not counted as a cache lookup.
+     *
+     * @param workspace the workspace to hold.
+     * @return true if the hold was taken; the caller must then release it.
+     */
+    public boolean hold(Workspace workspace) {
+        return workspace.hold(clock.getAsLong());
+    }
+
+    /**
+     * Makes the named workspace the active one, which is never evicted, and returns it held.
+     *
+     * @param name the workspace name.
+     * @return the workspace, which the caller must release.
+     * @throws StorageException         if the workspace cannot be loaded.
+     * @throws IllegalArgumentException if the name is not valid.
+     */
+    public Workspace activate(String name) throws StorageException {
+        Workspace workspace = acquire(name);
+        activeName = name;
+        return workspace;
+    }
+
+    /**
+     * Returns the name of the active workspace.
+     *
+     * @return the name.
+     */
+    public String getActiveName() {
+        return activeName;
+    }
+
+    /**
+     * Returns the names of the workspaces currently in memory.
+     *
+     * @return the names, in alphabetical order.
+     */
+    public SortedSet<String> getLoadedNames() {
+        SortedSet<String> names = new TreeSet<>();
+        workspaces.forEach((name, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                names.add(name);
+            }
+        });
+        return names;
+    }
+
+    /**
+     * Returns the estimated memory used by the workspaces currently in memory.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return loadedWorkspaces().keySet().stream().mapToLong(Workspace::estimateBytes).sum();
+    }
+
+    /**
+     * Evicts inactive workspaces that are idle or, least recently used first, that take the estimated
+     * memory of loaded workspaces over the budget. Workspaces that are held are skipped.
+     *
+     * @return the number of workspaces evicted.
+     */
+    public synchronized int evict() {
+        long now = clock.getAsLong();
+        Map<Workspace, CompletableFuture<Workspace>> futures = loadedWorkspaces();
+        List<Workspace> loaded = new ArrayList<>(futures.keySet());
+        long totalBytes = 0;
+        Map<Workspace, Long> sizes = new HashMap<>();
+        for (Workspace workspace : loaded) {
+            long bytes = workspace.estimateBytes();
+            sizes.put(workspace, bytes);
+            totalBytes += bytes;
+        }
+        loaded.sort(Comparator.comparingLong(Workspace::getLastUsedNanos));
+
+        int evictedCount = 0;
+        for (Workspace workspace : loaded) {
+            boolean isIdle = now - workspace.getLastUsedNanos() >= idleTimeoutNanos;
+            boolean isOverBudget = totalBytes > memoryBudget;
+            if (workspace.getName().equals(activeName) || !(isIdle || isOverBudget) || !workspace.evict()) {
+                continue;
+            }
+            // Only remove this workspace's entry: an acquire that found it evicted may already have
+            // put a future for a fresh copy under the same name.
+            workspaces.remove(workspace.getName(), futures.get(workspace));
+            totalBytes -= sizes.get(workspace);
+            evictedCount++;
+            EVICTIONS.increment();
+            LOGGER.fine(() -> "Evicted workspace " + workspace.getName() + (isIdle ? " (idle)" : " (over budget)"));
+        }
+        return evictedCount;
+    }
+
+    /**
+     * Stops evicting and stops every loaded workspace. Saves already queued still complete.
+     */
+    @Override
+    public void close() {
+        evictionExecutor.shutdownNow();
+        loadedWorkspaces().keySet().forEach(Workspace::close);
+        workspaces.clear();
+        storages.values().forEach(Storage::shutdownExecutor);
+    }
+
+    /**
+     * Loads a workspace from its file and completes the future with it.
+     * The load is queued behind any saves still pending from an earlier eviction.
+     *
+     * @param name    the workspace name.
+     * @param loading the future to complete.
+     */
+    private void load(String name, CompletableFuture<Workspace> loading) {
+        Storage storage = storages.computeIfAbsent(name, key -> new Storage(directory.resolve(
+                DEFAULT_WORKSPACE.equals(key) ? DEFAULT_FILE_NAME : key + FILE_SUFFIX)));
+        try {
+            loading.complete(new Workspace(name, storage, storage.loadTasksAsync().get()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            loading.completeExceptionally(new StorageException("Interrupted while loading workspace " + name));
+        } catch (ExecutionException e) {
+            loading.completeExceptionally(e.getCause() instanceof CompletionException ? e.getCause().getCause()
+                    : e.getCause());
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the workspaces that have finished loading, each with the future it was loaded into.
+     *
+     * @return the loaded workspaces and their futures.
+     */
+    private Map<Workspace, CompletableFuture<Workspace>> loadedWorkspaces() {
+        Map<Workspace, CompletableFuture<Workspace>> loaded = new HashMap<>();
+        for (CompletableFuture<Workspace> future : workspaces.values()) {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                loaded.put(future.join(), future);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Runs {@link #evict()}, logging rather than propagating failures, for use from the background thread.
+     */
+    private void evictSafely() {
+        try {
+            evict();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Error evicting workspaces", e);
+        }
+    }
+}
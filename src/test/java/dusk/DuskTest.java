@@ -0,0 +1,93 @@
+package dusk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.metrics.Metrics;
+import dusk.ui.DuskResponseType;
+import dusk.workspace.WorkspaceManager;
+
+/**
+ * Test cases for {@link Dusk}.
+ */
+public class DuskTest {
+
+    /**
+     * Verifies that instances on different data directories keep separate task lists and files.
+     */
+    @Test
+    public void instancesDoNotShareTasks(@TempDir Path tempDir) throws Exception {
+        Path firstDirectory = tempDir.resolve("first");
+        Path secondDirectory = tempDir.resolve("second");
+        try (Dusk first = new Dusk(new WorkspaceManager(firstDirectory));
+             Dusk second = new Dusk(new WorkspaceManager(secondDirectory))) {
+            assertEquals(DuskResponseType.NORMAL, first.getResponse("todo read book").getType());
+            assertEquals(DuskResponseType.NORMAL, second.getResponse("todo water plants").getType());
+            assertEquals(DuskResponseType.NORMAL, second.getResponse("todo buy milk").getType());
+
+            assertEquals(1, first.getExecutor().getSnapshot().size());
+            assertEquals(2, second.getExecutor().getSnapshot().size());
+            first.getStorage().loadTasksAsync().join();
+            second.getStorage().loadTasksAsync().join();
+        }
+
+        assertEquals(1, Files.readAllLines(firstDirectory.resolve("data.txt")).size());
+        assertEquals(2, Files.readAllLines(secondDirectory.resolve("data.txt")).size());
+        try (Dusk reloaded = new Dusk(new WorkspaceManager(firstDirectory))) {
+            assertTrue(reloaded.getResponse("list").getMessage().contains("read book"));
+        }
+    }
+
+    /**
+     * Verifies that {@code use} switches between workspaces with their own tasks and files.
+     */
+    @Test
+    public void useSwitchesWorkspaces(@TempDir Path tempDir) throws Exception {
+        try (Dusk dusk = new Dusk(new WorkspaceManager(tempDir))) {
+            dusk.getResponse("todo read book");
+            assertTrue(dusk.getResponse("use Work").getMessage().contains("It has 0 tasks."));
+            assertEquals("work", dusk.getCurrentWorkspace());
+            dusk.getResponse("todo file report");
+            assertFalse(dusk.getResponse("list").getMessage().contains("read book"));
+            dusk.getStorage().loadTasksAsync().join();
+
+            assertTrue(dusk.getResponse("use default").getMessage().contains("It has 1 task."));
+            assertTrue(dusk.getResponse("list").getMessage().contains("read book"));
+            assertEquals(DuskResponseType.ERROR, dusk.getResponse("use ../work").getType());
+            assertTrue(dusk.getResponse("use").getMessage().contains("You are in the default workspace."));
+            dusk.getStorage().loadTasksAsync().join();
+        }
+
+        assertTrue(Files.readString(tempDir.resolve("data.txt")).contains("read book"));
+        assertTrue(Files.readString(tempDir.resolve("work.txt")).contains("file report"));
+    }
+
+    /**
+     * Verifies that each command is counted under its command word, and failed commands as errors.
+     */
+    @Test
+    public void countsCommandsAndErrors(@TempDir Path tempDir) throws Exception {
+        Metrics metrics = Metrics.getInstance();
+        long todos = metrics.counter("command.todo").sum();
+        long marks = metrics.counter("command.mark").sum();
+        long invalid = metrics.counter("command.invalid").sum();
+        long errors = metrics.counter("command.errors").sum();
+        try (Dusk dusk = new Dusk(new WorkspaceManager(tempDir))) {
+            dusk.getResponse("todo read book");
+            dusk.getResponse("mark 5");
+            dusk.getResponse("dance");
+        }
+
+        assertEquals(todos + 1, metrics.counter("command.todo").sum());
+        assertEquals(marks + 1, metrics.counter("command.mark").sum());
+        assertEquals(invalid + 1, metrics.counter("command.invalid").sum());
+        assertEquals(errors + 2, metrics.counter("command.errors").sum());
+    }
+}
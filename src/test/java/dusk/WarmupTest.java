@@ -0,0 +1,34 @@
+package dusk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link Warmup}.
+ */
+public class WarmupTest {
+
+    private static final Path DATA_FILE = Paths.get("data", "data.txt");
+
+    /**
+     * Verifies that warming up never writes to the user's task file.
+     */
+    @Test
+    public void runDoesNotTouchUserData() throws IOException {
+        boolean existed = Files.exists(DATA_FILE);
+        long modified = existed ? Files.getLastModifiedTime(DATA_FILE).toMillis() : 0;
+
+        Warmup.run();
+
+        assertEquals(existed, Files.exists(DATA_FILE));
+        if (existed) {
+            assertEquals(modified, Files.getLastModifiedTime(DATA_FILE).toMillis());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package dusk.command;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dusk.storage.Storage;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.DuskIO;
+
+/**
+ * Allocation budgets for parsing and executing each command against a large task list.
+ * Each test measures the bytes allocated on the calling thread by {@link Parser#parse} plus
+ * {@link Command#execute}, and fails if they exceed the command's budget. A change that makes
+ * a command noticeably more wasteful should either be fixed or raise the budget deliberately.
+ *
+ * <p>Budgets are roughly twice the measured allocation, to absorb differences between JVMs.
+ * Saving is stubbed out, since it runs on the storage thread and is covered by its own benchmarks.
+ */
+public class CommandAllocationTest {
+
+    private static final int TASK_COUNT = 10_000;
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 20;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final long TODO_BUDGET = 2_000;
+    private static final long DEADLINE_BUDGET = 4_000;
+    private static final long EVENT_BUDGET = 5_000;
+    private static final long MARK_BUDGET = 2_000;
+    private static final long DELETE_BUDGET = 2_000;
+    private static final long UNDO_BUDGET = 2_000;
+    private static final long LIST_BUDGET = 1_000;
+    private static final long LIST_ON_BUDGET = 1_000_000;
+    private static final long FIND_BUDGET = 300_000;
+
+    private final com.sun.management.ThreadMXBean threads = threadBean();
+    private TaskList tasks;
+    private CommandJournal journal;
+    private Storage storage;
+
+    /**
+     * Preloads a large task list and stubs out saving.
+     */
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported(),
+                "Per-thread allocation counting is not available");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        tasks = new TaskList();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            LocalDateTime date = START.plusHours(i);
+            switch (i % 3) {
+            case 0 -> tasks.addTask(new Todo("read book " + i));
+            case 1 -> tasks.addTask(new Deadline("submit report " + i, date));
+            default -> tasks.addTask(new Event("team meeting " + i, date, date.plusHours(2)));
+            }
+        }
+        journal = new CommandJournal();
+        storage = new Storage() {
+            @Override
+            public CompletableFuture<Void> saveTasksAsync(TaskList tasks) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
+    /**
+     * Verifies the allocation budget of adding a todo.
+     */
+    @Test
+    public void todoWithinBudget() throws Exception {
+        assertWithinBudget("todo", TODO_BUDGET, () -> measure("todo read book"));
+    }
+
+    /**
+     * Verifies the allocation budget of adding a deadline.
+     */
+    @Test
+    public void deadlineWithinBudget() throws Exception {
+        assertWithinBudget("deadline", DEADLINE_BUDGET,
+                () -> measure("deadline submit report /by 2024-03-20 1400"));
+    }
+
+    /**
+     * Verifies the allocation budget of adding an event.
+     */
+    @Test
+    public void eventWithinBudget() throws Exception {
+        assertWithinBudget("event", EVENT_BUDGET,
+                () -> measure("event team meeting /from 2024-03-20 1400 /to 2024-03-20 1500"));
+    }
+
+    /**
+     * Verifies the allocation budget of marking a task, unmarking it again outside the measurement.
+     */
+    @Test
+    public void markWithinBudget() throws Exception {
+        assertWithinBudget("mark", MARK_BUDGET, () -> {
+            long allocated = measure("mark 1");
+            run("unmark 1");
+            return allocated;
+        });
+    }
+
+    /**
+     * Verifies the allocation budget of deleting a task, restoring the list outside the measurement.
+     */
+    @Test
+    public void deleteWithinBudget() throws Exception {
+        assertWithinBudget("delete", DELETE_BUDGET, () -> {
+            long allocated = measure("delete 1");
+            run("undo");
+            return allocated;
+        });
+    }
+
+    /**
+     * Verifies the allocation budget of undoing a change, redoing it outside the measurement.
+     */
+    @Test
+    public void undoWithinBudget() throws Exception {
+        run("todo read book");
+        assertWithinBudget("undo", UNDO_BUDGET, () -> {
+            long allocated = measure("undo");
+            run("redo");
+            return allocated;
+        });
+    }
+
+    /**
+     * Verifies the allocation budget of listing every task, which should not copy the list.
+     */
+    @Test
+    public void listWithinBudget() throws Exception {
+        assertWithinBudget("list", LIST_BUDGET, () -> measure("list"));
+    }
+
+    /**
+     * Verifies the allocation budget of listing the tasks on one day.
+     */
+    @Test
+    public void listOnDateWithinBudget() throws Exception {
+        assertWithinBudget("list /on", LIST_ON_BUDGET, () -> measure("list /on 2024-03-20 0000"));
+    }
+
+    /**
+     * Verifies the allocation budget of finding tasks by keyword.
+     */
+    @Test
+    public void findWithinBudget() throws Exception {
+        assertWithinBudget("find", FIND_BUDGET, () -> measure("find book"));
+    }
+
+    /**
+     * A measurement of one run of a command, which may also restore the task list afterwards.
+     */
+    private interface Measurement {
+        long run() throws Exception;
+    }
+
+    /**
+     * Runs a measurement until the JIT has settled, then fails if the least allocation seen
+     * over several further runs exceeds the budget.
+     *
+     * @param name        the command name, for the failure message.
+     * @param budget      the most bytes the command may allocate.
+     * @param measurement the measurement to run.
+     * @throws Exception if the command fails.
+     */
+    private void assertWithinBudget(String name, long budget, Measurement measurement) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            measurement.run();
+        }
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            least = Math.min(least, measurement.run());
+        }
+        assertTrue(least <= budget, String.format("%s allocated %,d bytes, over its budget of %,d bytes",
+                name, least, budget));
+    }
+
+    /**
+     * Parses and executes a command, returning the bytes allocated on this thread while doing so.
+     *
+     * @param input the command.
+     * @return the bytes allocated.
+     * @throws Exception if the command fails.
+     */
+    private long measure(String input) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            Parser.parse(duskIO, storage, tasks, journal, input).execute();
+            return threads.getThreadAllocatedBytes(threadId) - before;
+        }
+    }
+
+    /**
+     * Parses and executes a command without measuring it.
+     *
+     * @param input the command.
+     * @throws Exception if the command fails.
+     */
+    private void run(String input) throws Exception {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            Parser.parse(duskIO, storage, tasks, journal, input).execute();
+        }
+    }
+
+    /**
+     * Returns the platform thread bean if it can count allocations per thread.
+     *
+     * @return the bean, or null on JVMs without the extension.
+     */
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+}
@@ -0,0 +1,183 @@
+package dusk.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.Todo;
+
+/**
+ * Test cases for {@link CommandExecutor}.
+ */
+public class CommandExecutorTest {
+
+    private TaskList taskList;
+    private CommandExecutor executor;
+
+    /**
+     * Initializes test fixtures before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        executor = new CommandExecutor(taskList, "test", 16);
+    }
+
+    /**
+     * Stops the writer thread after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Verifies that mutations from many threads are all applied on the single writer thread.
+     */
+    @Test
+    public void submitFromManyThreadsRunsOnSingleWriter() throws Exception {
+        Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(producers.submit(() -> executor.submit(() -> {
+                writerThreads.add(Thread.currentThread().getName());
+                taskList.addTask(new Todo("task"));
+                return taskList.size();
+            })));
+        }
+        for (Future<Integer> result : results) {
+            result.get();
+        }
+        producers.shutdown();
+
+        assertEquals(Set.of("dusk-writer-test"), writerThreads);
+        assertEquals(100, taskList.size());
+        assertEquals(100, executor.getCompletedCount());
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    /**
+     * Verifies that a new snapshot is published after each mutation and is isolated from the live list.
+     */
+    @Test
+    public void submitPublishesSnapshot() throws Exception {
+        TaskList before = executor.getSnapshot();
+        assertTrue(before.isEmpty());
+
+        executor.submit(() -> {
+            taskList.addTask(new Todo("task"));
+            return null;
+        });
+
+        TaskList after = executor.getSnapshot();
+        assertNotSame(taskList, after);
+        assertEquals(1, after.size());
+        assertTrue(before.isEmpty());
+    }
+
+    /**
+     * Verifies that an exception thrown by a mutation is reported to the submitter.
+     */
+    @Test
+    public void submitFailingMutationThrowsExecutionException() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> executor.submit(() -> taskList.removeTask(0)));
+        assertTrue(exception.getCause() instanceof TaskListException);
+    }
+
+    /**
+     * Verifies that mutations which leave the list unchanged do not publish a new snapshot.
+     */
+    @Test
+    public void unchangedListKeepsSnapshot() throws Exception {
+        TaskList before = executor.getSnapshot();
+
+        assertEquals(Integer.valueOf(0), executor.submit(() -> taskList.size()));
+        assertThrows(ExecutionException.class, () -> executor.submit(() -> taskList.removeTask(0)));
+
+        assertSame(before, executor.getSnapshot());
+    }
+
+    /**
+     * Verifies that wait-time metrics are recorded.
+     */
+    @Test
+    public void submitRecordsWaitMetrics() throws Exception {
+        executor.submit(() -> null);
+        assertFalse(executor.getAverageWaitMillis() < 0);
+        assertTrue(executor.getMaxWaitMillis() >= executor.getAverageWaitMillis());
+    }
+
+    /**
+     * Verifies that submissions are rejected once the executor is shut down.
+     */
+    @Test
+    public void submitAfterShutdownThrowsRejectedExecutionException() {
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> null));
+    }
+
+    /**
+     * Verifies that marking a task replaces it in the live list without changing earlier snapshots.
+     */
+    @Test
+    public void markDoesNotChangeEarlierSnapshot() throws Exception {
+        executor.submit(() -> {
+            taskList.addTask(new Todo("task"));
+            return null;
+        });
+        TaskList before = executor.getSnapshot();
+
+        executor.submit(() -> {
+            taskList.setDone(0, true);
+            return null;
+        });
+
+        assertFalse(before.getTask(0).getDone());
+        assertTrue(executor.getSnapshot().getTask(0).getDone());
+    }
+
+    /**
+     * Verifies that a submitter sees its own mutation in the snapshot once its submission returns,
+     * even when mutations from other threads are applied in the same batch.
+     */
+    @Test
+    public void snapshotIncludesOwnMutationOnReturn() throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(producers.submit(() -> {
+                int size = executor.submit(() -> {
+                    taskList.addTask(new Todo("task"));
+                    return taskList.size();
+                });
+                return executor.getSnapshot().size() >= size;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        producers.shutdown();
+        assertEquals(100, executor.getSnapshot().size());
+    }
+}
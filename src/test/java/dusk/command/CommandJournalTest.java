@@ -0,0 +1,199 @@
+package dusk.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dusk.task.Task;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.Todo;
+
+/**
+ * Test cases for {@link CommandJournal}.
+ */
+public class CommandJournalTest {
+
+    private TaskList taskList;
+    private CommandJournal journal;
+
+    /**
+     * Initializes test fixtures before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        journal = new CommandJournal(3);
+    }
+
+    /**
+     * Verifies that undoing and redoing an add removes and restores the same task.
+     */
+    @Test
+    public void undoRedoAddRestoresTask() throws TaskListException {
+        Task task = new Todo("task");
+        taskList.addTask(task);
+        journal.recordAdd(0, task);
+
+        assertEquals(List.of("add [T][ ] task"), journal.undo(taskList, 1));
+        assertTrue(taskList.isEmpty());
+
+        assertEquals(List.of("add [T][ ] task"), journal.redo(taskList, 1));
+        assertSame(task, taskList.getTask(0));
+    }
+
+    /**
+     * Verifies that undoing a delete reinserts the task at its original position.
+     */
+    @Test
+    public void undoDeleteReinsertsAtIndex() throws TaskListException {
+        Task first = new Todo("first");
+        Task second = new Todo("second");
+        taskList.addTask(first);
+        taskList.addTask(second);
+        taskList.removeTask(0);
+        journal.recordDelete(0, first);
+
+        journal.undo(taskList, 1);
+        assertSame(first, taskList.getTask(0));
+        assertSame(second, taskList.getTask(1));
+    }
+
+    /**
+     * Verifies that undoing a mark restores the previous completion status.
+     */
+    @Test
+    public void undoMarkRestoresStatus() throws Exception {
+        taskList.addTask(new Todo("task"));
+        taskList.markTask(0);
+        journal.recordMark(0, taskList.getTask(0), true);
+
+        journal.undo(taskList, 1);
+        assertFalse(taskList.getTask(0).getDone());
+        journal.redo(taskList, 1);
+        assertTrue(taskList.getTask(0).getDone());
+    }
+
+    /**
+     * Verifies that multi-step undo stops when the history is exhausted
+     * and that the oldest entries are dropped beyond capacity.
+     */
+    @Test
+    public void undoStepsAreBoundedByCapacity() throws TaskListException {
+        for (int i = 0; i < 5; i++) {
+            Task task = new Todo("task " + i);
+            taskList.addTask(task);
+            journal.recordAdd(i, task);
+        }
+        assertEquals(3, journal.getUndoSize());
+
+        assertEquals(3, journal.undo(taskList, 10).size());
+        assertEquals(2, taskList.size());
+        assertEquals(0, journal.getUndoSize());
+        assertEquals(3, journal.getRedoSize());
+    }
+
+    /**
+     * Verifies that the oldest entries are dropped once the estimated size exceeds the limit,
+     * keeping the newest entry however large it is.
+     */
+    @Test
+    public void entriesAreBoundedByEstimatedBytes() throws TaskListException {
+        journal = new CommandJournal(100, 1000);
+        for (int i = 0; i < 5; i++) {
+            Task task = new Todo("task " + i);
+            taskList.addTask(task);
+            journal.recordAdd(i, task);
+        }
+        assertEquals(4, journal.getUndoSize());
+        assertTrue(journal.getEstimatedBytes() <= 1000);
+
+        Task large = new Todo("x".repeat(1000));
+        journal.recordDelete(5, large);
+        assertEquals(1, journal.getUndoSize());
+        assertTrue(journal.getEstimatedBytes() > 1000);
+
+        assertEquals(1, journal.undo(taskList, 10).size());
+        assertSame(large, taskList.getTask(5));
+        assertEquals(1, journal.getRedoSize());
+    }
+
+    /**
+     * Verifies that recording a new change discards the redo history.
+     */
+    @Test
+    public void recordClearsRedoHistory() throws TaskListException {
+        Task task = new Todo("task");
+        taskList.addTask(task);
+        journal.recordAdd(0, task);
+        journal.undo(taskList, 1);
+
+        Task other = new Todo("other");
+        taskList.addTask(other);
+        journal.recordAdd(0, other);
+        assertEquals(0, journal.getRedoSize());
+        assertTrue(journal.redo(taskList, 1).isEmpty());
+    }
+
+    /**
+     * Verifies that undo fails when the task list no longer matches the journal.
+     */
+    @Test
+    public void undoOutOfSyncThrowsTaskListException() {
+        Task task = new Todo("task");
+        journal.recordAdd(0, task);
+        taskList.addTask(new Todo("other"));
+
+        assertThrows(TaskListException.class, () -> journal.undo(taskList, 1));
+        assertEquals(1, journal.getUndoSize());
+    }
+
+    /**
+     * Verifies that entries still match a task after it has been replaced by marking and unmarking.
+     */
+    @Test
+    public void undoAddAfterMarkAndUnmark() throws Exception {
+        Task task = new Todo("task");
+        taskList.addTask(task);
+        journal.recordAdd(0, task);
+        taskList.markTask(0);
+        journal.recordMark(0, taskList.getTask(0), true);
+        taskList.unmarkTask(0);
+        journal.recordMark(0, taskList.getTask(0), false);
+
+        assertEquals(3, journal.undo(taskList, 3).size());
+        assertTrue(taskList.isEmpty());
+    }
+
+    /**
+     * Verifies that a multi-step undo that fails part-way puts back the steps it had already undone.
+     */
+    @Test
+    public void failedUndoLeavesListAndJournalUnchanged() throws TaskListException {
+        Task first = new Todo("first");
+        Task second = new Todo("second");
+        taskList.addTask(first);
+        journal.recordAdd(0, first);
+        taskList.addTask(second);
+        journal.recordAdd(1, second);
+        // A change the journal does not know about, so undoing the first add no longer matches.
+        taskList.removeTask(0);
+        Task other = new Todo("other");
+        taskList.insertTask(0, other);
+
+        assertThrows(TaskListException.class, () -> journal.undo(taskList, 2));
+
+        assertEquals(2, taskList.size());
+        assertSame(other, taskList.getTask(0));
+        assertSame(second, taskList.getTask(1));
+        assertEquals(2, journal.getUndoSize());
+        assertEquals(0, journal.getRedoSize());
+    }
+}
@@ -26,12 +26,14 @@ public class CreateDeadlineCommandTest {
     private TaskList taskList;
     private DuskIO duskIO;
     private Storage storage;
+    private CommandJournal journal;
 
     @BeforeEach
     public void setUp() {
         taskList = new TaskList();
         duskIO = mock(DuskIO.class);
         storage = mock(Storage.class);
+        journal = new CommandJournal();
     }
 
     /**
@@ -40,7 +42,8 @@ public class CreateDeadlineCommandTest {
     @Test
     public void executeValidDeadlineTaskAdded() throws IOException, InputException {
         LocalDateTime deadline = LocalDateTime.now().plusDays(1);
-        CreateDeadlineCommand command = new CreateDeadlineCommand(taskList, duskIO, storage, "Test deadline", deadline);
+        CreateDeadlineCommand command = new CreateDeadlineCommand(
+                taskList, duskIO, storage, journal, "Test deadline", deadline);
 
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
         command.execute();
@@ -58,7 +61,7 @@ public class CreateDeadlineCommandTest {
     @Test
     public void executeEmptyDescriptionThrowsInputException() {
         LocalDateTime deadline = LocalDateTime.now().plusDays(1);
-        CreateDeadlineCommand command = new CreateDeadlineCommand(taskList, duskIO, storage, "", deadline);
+        CreateDeadlineCommand command = new CreateDeadlineCommand(taskList, duskIO, storage, journal, "", deadline);
 
         assertThrows(InputException.class, command::execute);
         assertEquals(0, taskList.size());
@@ -26,12 +26,14 @@ public class CreateEventCommandTest {
     private TaskList taskList;
     private DuskIO duskIO;
     private Storage storage;
+    private CommandJournal journal;
 
     @BeforeEach
     public void setUp() {
         taskList = new TaskList();
         duskIO = mock(DuskIO.class);
         storage = mock(Storage.class);
+        journal = new CommandJournal();
     }
 
     /**
@@ -42,7 +44,7 @@ public class CreateEventCommandTest {
         LocalDateTime startTime = LocalDateTime.now().plusDays(1);
         LocalDateTime endTime = startTime.plusHours(2);
         CreateEventCommand command = new CreateEventCommand(
-                taskList, duskIO, storage, "Test event", startTime, endTime
+                taskList, duskIO, storage, journal, "Test event", startTime, endTime
         );
 
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
@@ -62,7 +64,7 @@ public class CreateEventCommandTest {
     public void executeEmptyDescriptionThrowsInputException() {
         LocalDateTime startTime = LocalDateTime.now().plusDays(1);
         LocalDateTime endTime = startTime.plusHours(2);
-        CreateEventCommand command = new CreateEventCommand(taskList, duskIO, storage, "", startTime, endTime);
+        CreateEventCommand command = new CreateEventCommand(taskList, duskIO, storage, journal, "", startTime, endTime);
         assertThrows(InputException.class, command::execute);
         assertEquals(0, taskList.size());
     }
@@ -25,12 +25,14 @@ public class CreateTodoCommandTest {
     private TaskList taskList;
     private DuskIO duskIO;
     private Storage storage;
+    private CommandJournal journal;
 
     @BeforeEach
     public void setUp() {
         taskList = new TaskList();
         duskIO = mock(DuskIO.class);
         storage = mock(Storage.class);
+        journal = new CommandJournal();
     }
 
     /**
@@ -38,7 +40,7 @@ public class CreateTodoCommandTest {
      */
     @Test
     public void executeValidTodoTaskAdded() throws IOException, InputException {
-        CreateTodoCommand command = new CreateTodoCommand(taskList, duskIO, storage, "Test todo");
+        CreateTodoCommand command = new CreateTodoCommand(taskList, duskIO, storage, journal, "Test todo");
 
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
         command.execute();
@@ -55,7 +57,7 @@ public class CreateTodoCommandTest {
      */
     @Test
     public void executeEmptyDescriptionThrowsInputException() {
-        CreateTodoCommand command = new CreateTodoCommand(taskList, duskIO, storage, "");
+        CreateTodoCommand command = new CreateTodoCommand(taskList, duskIO, storage, journal, "");
         assertThrows(InputException.class, command::execute);
         assertEquals(0, taskList.size());
     }
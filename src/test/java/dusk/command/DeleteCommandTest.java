@@ -26,12 +26,14 @@ public class DeleteCommandTest {
     private TaskList taskList;
     private DuskIO duskIO;
     private Storage storage;
+    private CommandJournal journal;
 
     @BeforeEach
     public void setUp() {
         taskList = new TaskList();
         duskIO = mock(DuskIO.class);
         storage = mock(Storage.class);
+        journal = new CommandJournal();
     }
 
     /**
@@ -41,7 +43,7 @@ public class DeleteCommandTest {
     public void executeValidIndexDeletesTask() throws TaskListException, InputException, IOException {
         taskList.addTask(new Todo("test task"));
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
-        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, "1");
+        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, journal, "1");
 
         command.execute();
         assertEquals(0, taskList.size());
@@ -58,7 +60,7 @@ public class DeleteCommandTest {
      */
     @Test
     public void executeInvalidIndexThrowsTaskListException() {
-        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, "1");
+        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, journal, "1");
         assertThrows(TaskListException.class, command::execute);
     }
 
@@ -67,7 +69,7 @@ public class DeleteCommandTest {
      */
     @Test
     public void executeInvalidInputFormatThrowsInputException() {
-        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, "invalid");
+        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, journal, "invalid");
         assertThrows(InputException.class, command::execute);
     }
 
@@ -84,7 +86,7 @@ public class DeleteCommandTest {
         taskList.addTask(task2);
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
 
-        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, "1");
+        DeleteCommand command = new DeleteCommand(taskList, duskIO, storage, journal, "1");
         command.execute();
 
         assertEquals(1, taskList.size());
@@ -1,11 +1,12 @@
 package dusk.command;
 
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 
@@ -13,6 +14,7 @@ import dusk.task.TaskList;
 import dusk.task.TaskListException;
 import dusk.task.Todo;
 import dusk.ui.DuskIO;
+import dusk.ui.TaskListView;
 
 /**
  * Test cases for {@link FindCommand}.
@@ -53,9 +55,9 @@ public class FindCommandTest {
         FindCommand command = new FindCommand(taskList, duskIO, "Buy groceries");
         command.execute();
 
-        verify(duskIO).print(
-                eq("Here are the matching tasks in your list:"),
-                eq("1. [T][ ] Buy groceries")
+        verifyTaskList(
+                "Here are the matching tasks in your list:",
+                "1. [T][ ] Buy groceries"
         );
     }
 
@@ -71,10 +73,10 @@ public class FindCommandTest {
         FindCommand command = new FindCommand(taskList, duskIO, "buy");
         command.execute();
 
-        verify(duskIO).print(
-                eq("Here are the matching tasks in your list:"),
-                eq("1. [T][ ] Buy groceries"),
-                eq("2. [T][ ] Must buy fruits")
+        verifyTaskList(
+                "Here are the matching tasks in your list:",
+                "1. [T][ ] Buy groceries",
+                "2. [T][ ] Must buy fruits"
         );
     }
 
@@ -90,11 +92,11 @@ public class FindCommandTest {
         FindCommand command = new FindCommand(taskList, duskIO, "Buy");
         command.execute();
 
-        verify(duskIO).print(
-                eq("Here are the matching tasks in your list:"),
-                eq("1. [T][ ] Buy groceries"),
-                eq("2. [T][ ] Buy fruits"),
-                eq("3. [T][ ] Must Buy vegetables")
+        verifyTaskList(
+                "Here are the matching tasks in your list:",
+                "1. [T][ ] Buy groceries",
+                "2. [T][ ] Buy fruits",
+                "3. [T][ ] Must Buy vegetables"
         );
     }
 
@@ -123,10 +125,27 @@ public class FindCommandTest {
         FindCommand command = new FindCommand(taskList, duskIO, "Buy");
         command.execute();
 
-        verify(duskIO).print(
-                eq("Here are the matching tasks in your list:"),
-                eq("1. [T][ ] Buy GROCERIES"),
-                eq("2. [T][ ] buy fruits")
+        verifyTaskList(
+                "Here are the matching tasks in your list:",
+                "1. [T][ ] Buy GROCERIES",
+                "2. [T][ ] buy fruits"
         );
     }
+
+    /**
+     * Verifies that a single task list was printed with the given header and items.
+     *
+     * @param header the expected header
+     * @param items  the expected rendered items
+     */
+    private void verifyTaskList(String header, String... items) throws IOException {
+        ArgumentCaptor<TaskListView> captor = ArgumentCaptor.forClass(TaskListView.class);
+        verify(duskIO).printTaskList(captor.capture());
+        TaskListView view = captor.getValue();
+        assertEquals(header, view.getHeader());
+        assertEquals(items.length, view.size());
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i], view.getItem(i));
+        }
+    }
 }
@@ -1,12 +1,13 @@
 package dusk.command;
 
-import static org.mockito.ArgumentMatchers.contains;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.LocalDateTime;
 import java.io.IOException;
@@ -17,6 +18,7 @@ import dusk.task.TaskList;
 import dusk.task.TaskListException;
 import dusk.task.Todo;
 import dusk.ui.DuskIO;
+import dusk.ui.TaskListView;
 
 /**
  * Test cases for {@link ListCommand}.
@@ -57,11 +59,11 @@ public class ListCommandTest {
         ListCommand command = new ListCommand(taskList, duskIO, null, null, null);
         command.execute();
 
-        verify(duskIO).print(
-                eq("Here are all the tasks:"),
-                eq("1. [T][ ] test task 1"),
-                eq("2. [T][ ] test task 2")
-        );
+        TaskListView view = captureTaskList();
+        assertEquals("Here are all the tasks:", view.getHeader());
+        assertEquals(2, view.size());
+        assertEquals("1. [T][ ] test task 1", view.getItem(0));
+        assertEquals("2. [T][ ] test task 2", view.getItem(1));
     }
 
     /**
@@ -82,11 +84,11 @@ public class ListCommandTest {
         ListCommand command = new ListCommand(taskList, duskIO, null, now, dayAfterTomorrow);
         command.execute();
 
-        verify(duskIO).print(
-                contains("Here are the tasks between "),
-                contains("1. [E][ ] event 1 ("),
-                contains("2. [D][ ] deadline 1 (by ")
-        );
+        TaskListView view = captureTaskList();
+        assertTrue(view.getHeader().contains("Here are the tasks between "));
+        assertEquals(2, view.size());
+        assertTrue(view.getItem(0).contains("1. [E][ ] event 1 ("));
+        assertTrue(view.getItem(1).contains("2. [D][ ] deadline 1 (by "));
     }
 
     /**
@@ -122,10 +124,21 @@ public class ListCommandTest {
         ListCommand command = new ListCommand(taskList, duskIO, now, null, null);
         command.execute();
 
-        verify(duskIO).print(
-                contains("Here are the tasks on "),
-                contains("1. [E][ ] past event ("),
-                contains("2. [E][ ] event 1 (")
-        );
+        TaskListView view = captureTaskList();
+        assertTrue(view.getHeader().contains("Here are the tasks on "));
+        assertEquals(2, view.size());
+        assertTrue(view.getItem(0).contains("1. [E][ ] past event ("));
+        assertTrue(view.getItem(1).contains("2. [E][ ] event 1 ("));
+    }
+
+    /**
+     * Captures the task list printed by the command under test.
+     *
+     * @return the printed task list view
+     */
+    private TaskListView captureTaskList() throws IOException {
+        ArgumentCaptor<TaskListView> captor = ArgumentCaptor.forClass(TaskListView.class);
+        verify(duskIO).printTaskList(captor.capture());
+        return captor.getValue();
     }
 }
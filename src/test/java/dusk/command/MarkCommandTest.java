@@ -28,12 +28,14 @@ public class MarkCommandTest {
     private TaskList taskList;
     private DuskIO duskIO;
     private Storage storage;
+    private CommandJournal journal;
 
     @BeforeEach
     public void setUp() {
         taskList = new TaskList();
         duskIO = mock(DuskIO.class);
         storage = mock(Storage.class);
+        journal = new CommandJournal();
     }
 
     /**
@@ -45,7 +47,7 @@ public class MarkCommandTest {
         taskList.addTask(new Todo("test task"));
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
 
-        MarkCommand command = new MarkCommand(taskList, duskIO, storage, "1", true);
+        MarkCommand command = new MarkCommand(taskList, duskIO, storage, journal, "1", true);
         command.execute();
 
         assertTrue(taskList.getTask(0).getDone());
@@ -58,7 +60,7 @@ public class MarkCommandTest {
      */
     @Test
     public void executeInvalidIndexThrowsTaskListException() {
-        MarkCommand command = new MarkCommand(taskList, duskIO, storage, "1", true);
+        MarkCommand command = new MarkCommand(taskList, duskIO, storage, journal, "1", true);
         assertThrows(TaskListException.class, command::execute);
     }
 
@@ -67,7 +69,7 @@ public class MarkCommandTest {
      */
     @Test
     public void executeInvalidInputFormatThrowsInputException() {
-        MarkCommand command = new MarkCommand(taskList, duskIO, storage, "invalid", true);
+        MarkCommand command = new MarkCommand(taskList, duskIO, storage, journal, "invalid", true);
         assertThrows(InputException.class, command::execute);
     }
 
@@ -82,7 +84,7 @@ public class MarkCommandTest {
         taskList.addTask(todo);
         when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
 
-        MarkCommand command = new MarkCommand(taskList, duskIO, storage, "1", false);
+        MarkCommand command = new MarkCommand(taskList, duskIO, storage, journal, "1", false);
         command.execute();
 
         assertFalse(taskList.getTask(0).getDone());
@@ -1,17 +1,27 @@
 package dusk.command;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import dusk.ui.DuskIO;
 import dusk.storage.Storage;
+import dusk.task.Deadline;
+import dusk.task.Event;
 import dusk.task.TaskList;
 
 /**
@@ -19,9 +29,13 @@ import dusk.task.TaskList;
  */
 public class ParserTest {
 
+    // Wednesday, 20 March 2024.
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-20T10:00:00Z"), ZoneOffset.UTC);
+
     private DuskIO duskIO;
     private Storage storage;
     private TaskList tasks;
+    private CommandJournal journal;
 
     /**
      * Sets up the test environment before each test.
@@ -31,6 +45,7 @@ public class ParserTest {
         duskIO = new DuskIO(new StringReader(""), new StringWriter());
         storage = new Storage();
         tasks = new TaskList();
+        journal = new CommandJournal();
     }
 
     /**
@@ -39,7 +54,7 @@ public class ParserTest {
     @Test
     public void parseTodoCommandSuccess() {
         assertDoesNotThrow(() -> {
-            Command cmd = Parser.parse(duskIO, storage, tasks, "todo Read book");
+            Command cmd = Parser.parse(duskIO, storage, tasks, journal, "todo Read book");
             assertInstanceOf(CreateTodoCommand.class, cmd);
         });
     }
@@ -50,7 +65,7 @@ public class ParserTest {
     @Test
     public void parseDeadlineCommandSuccess() {
         assertDoesNotThrow(() -> {
-            Command cmd = Parser.parse(duskIO, storage, tasks,
+            Command cmd = Parser.parse(duskIO, storage, tasks, journal,
                     "deadline Submit report /by 2024-03-20 1400");
             assertInstanceOf(CreateDeadlineCommand.class, cmd);
         });
@@ -62,7 +77,7 @@ public class ParserTest {
     @Test
     public void parseEventCommandSuccess() {
         assertDoesNotThrow(() -> {
-            Command cmd = Parser.parse(duskIO, storage, tasks,
+            Command cmd = Parser.parse(duskIO, storage, tasks, journal,
                     "event Team meeting /from 2024-03-20 1400 /to 2024-03-20 1500");
             assertInstanceOf(CreateEventCommand.class, cmd);
         });
@@ -74,17 +89,91 @@ public class ParserTest {
     @Test
     public void parseListCommandSuccess() {
         assertDoesNotThrow(() -> {
-            Command cmd = Parser.parse(duskIO, storage, tasks, "list");
+            Command cmd = Parser.parse(duskIO, storage, tasks, journal, "list");
             assertInstanceOf(ListCommand.class, cmd);
         });
     }
 
+    /**
+     * Verifies that a list command with date flags but no description is accepted.
+     */
+    @Test
+    public void parseListCommandWithFlagsSuccess() {
+        assertDoesNotThrow(() -> {
+            assertInstanceOf(ListCommand.class, Parser.parse(duskIO, storage, tasks, journal,
+                    "list /on 2024-03-20 0000"));
+            assertInstanceOf(ListCommand.class, Parser.parse(duskIO, storage, tasks, journal,
+                    "list /from 2024-03-01 0000 /to 2024-03-31 2359"));
+        });
+    }
+
+    /**
+     * Verifies that a list command with a flag but no value triggers an InputException.
+     */
+    @Test
+    public void parseListCommandEmptyFlagThrowsInputException() {
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal, "list /on"));
+    }
+
+    /**
+     * Verifies that commands other than list still reject flags without a description.
+     */
+    @Test
+    public void parseFlagsWithoutDescriptionThrowsInputException() {
+        for (String input : new String[] {"todo /by x", "deadline /by 2024-03-20 1400",
+                "event /from 2024-03-20 1400 /to 2024-03-20 1500", "find /on", "undo /2", "use /tmp"}) {
+            assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal, input),
+                    input);
+        }
+    }
+
     /**
      * Verifies that a missing description triggers an InputException.
      */
     @Test
     public void parseCommandNoDescriptionThrowsInputException() {
-        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, "todo"));
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal, "todo"));
+    }
+
+    /**
+     * Verifies that relative dates are accepted wherever absolute dates are.
+     */
+    @Test
+    public void parseRelativeDatesSuccess() {
+        assertDoesNotThrow(() -> {
+            assertInstanceOf(CreateDeadlineCommand.class, Parser.parse(duskIO, storage, tasks, journal, null, CLOCK,
+                    "deadline Submit report /by tomorrow 1400"));
+            assertInstanceOf(CreateEventCommand.class, Parser.parse(duskIO, storage, tasks, journal, null, CLOCK,
+                    "event Retreat /from next fri /to in 2 weeks"));
+        });
+    }
+
+    /**
+     * Verifies that relative dates are resolved against the given clock.
+     */
+    @Test
+    public void parseRelativeDatesUsesGivenClock() throws Exception {
+        tasks.addTask(new Deadline("return book", LocalDateTime.of(2024, 3, 21, 14, 0)));
+        tasks.addTask(new Deadline("submit report", LocalDateTime.of(2024, 3, 22, 0, 0)));
+        tasks.addTask(new Event("retreat", LocalDateTime.of(2024, 4, 3, 9, 0), LocalDateTime.of(2024, 4, 3, 17, 0)));
+
+        assertEquals(1, listPayloadSize("list /on tomorrow"));
+        assertEquals(1, listPayloadSize("list /on fri"));
+        assertEquals(2, listPayloadSize("list /from today /to next fri"));
+        assertEquals(1, listPayloadSize("list /on in 2 weeks"));
+    }
+
+    /**
+     * Parses and runs a list command with the fixed clock and returns the number of tasks listed.
+     *
+     * @param input the list command
+     * @return the number of tasks listed
+     */
+    private int listPayloadSize(String input) throws Exception {
+        try (DuskIO responseIO = DuskIO.forResponse()) {
+            Parser.parse(responseIO, storage, tasks, journal, null, CLOCK, input).execute();
+            return responseIO.getPayload() == null ? 0 : responseIO.getPayload().size();
+        }
     }
 
     /**
@@ -92,7 +181,7 @@ public class ParserTest {
      */
     @Test
     public void parseDeadlineInvalidDateTimeThrowsInputException() {
-        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks,
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal,
                 "deadline Submit report /by invalid-date"));
     }
 
@@ -101,7 +190,7 @@ public class ParserTest {
      */
     @Test
     public void parseEventMissingFlagsThrowsInputException() {
-        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks,
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal,
                 "event Team meeting /from 2024-03-20 1400"));
     }
 
@@ -110,7 +199,7 @@ public class ParserTest {
      */
     @Test
     public void parseInvalidCommandTypeThrowsInputException() {
-        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, "invalid command"));
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal, "invalid command"));
     }
 
     /**
@@ -119,7 +208,7 @@ public class ParserTest {
     @Test
     public void parseFindCommandSuccess() {
         assertDoesNotThrow(() -> {
-            Command cmd = Parser.parse(duskIO, storage, tasks, "find book");
+            Command cmd = Parser.parse(duskIO, storage, tasks, journal, "find book");
             assertInstanceOf(FindCommand.class, cmd);
         });
     }
@@ -130,10 +219,79 @@ public class ParserTest {
     @Test
     public void parseMarkUnmarkCommandsSuccess() {
         assertDoesNotThrow(() -> {
-            Command markCmd = Parser.parse(duskIO, storage, tasks, "mark 1");
-            Command unmarkCmd = Parser.parse(duskIO, storage, tasks, "unmark 1");
+            Command markCmd = Parser.parse(duskIO, storage, tasks, journal, "mark 1");
+            Command unmarkCmd = Parser.parse(duskIO, storage, tasks, journal, "unmark 1");
             assertInstanceOf(MarkCommand.class, markCmd);
             assertInstanceOf(MarkCommand.class, unmarkCmd);
         });
     }
+
+    /**
+     * Verifies that undo and redo commands are parsed with or without a step count.
+     */
+    @Test
+    public void parseUndoRedoCommandsSuccess() {
+        assertDoesNotThrow(() -> {
+            assertInstanceOf(UndoCommand.class, Parser.parse(duskIO, storage, tasks, journal, "undo"));
+            assertInstanceOf(UndoCommand.class, Parser.parse(duskIO, storage, tasks, journal, "undo 3"));
+            assertInstanceOf(UndoCommand.class, Parser.parse(duskIO, storage, tasks, journal, "redo"));
+        });
+    }
+
+    /**
+     * Verifies that only list, find and stats commands are classified as read-only.
+     */
+    @Test
+    public void isReadOnlyClassifiesCommands() {
+        assertTrue(Parser.isReadOnly("list"));
+        assertTrue(Parser.isReadOnly("find book"));
+        assertTrue(Parser.isReadOnly("stats"));
+        assertFalse(Parser.isReadOnly("todo Read book"));
+        assertFalse(Parser.isReadOnly("delete 1"));
+        assertFalse(Parser.isReadOnly("invalid command"));
+        assertFalse(Parser.isReadOnly(null));
+    }
+
+    /**
+     * Verifies that the command word is extracted in lower case, or null for invalid input.
+     */
+    @Test
+    public void getCommandWordReturnsCommand() {
+        assertEquals("todo", Parser.getCommandWord("  TODO Read book"));
+        assertEquals("stats", Parser.getCommandWord("stats"));
+        assertNull(Parser.getCommandWord("invalid command"));
+        assertNull(Parser.getCommandWord(null));
+    }
+
+    /**
+     * Verifies that parsing the stats command works correctly.
+     */
+    @Test
+    public void parseStatsCommandSuccess() {
+        assertDoesNotThrow(() -> assertInstanceOf(StatsCommand.class,
+                Parser.parse(duskIO, storage, tasks, journal, "stats")));
+    }
+
+    /**
+     * Verifies that the use command is parsed when workspaces are available, and rejected otherwise.
+     */
+    @Test
+    public void parseUseCommand() {
+        WorkspaceSwitcher switcher = new WorkspaceSwitcher() {
+            @Override
+            public String getCurrentWorkspace() {
+                return "default";
+            }
+
+            @Override
+            public int useWorkspace(String name) {
+                return 0;
+            }
+        };
+        assertDoesNotThrow(() -> assertInstanceOf(UseCommand.class,
+                Parser.parse(duskIO, storage, tasks, journal, switcher, "use work")));
+        assertDoesNotThrow(() -> assertInstanceOf(UseCommand.class,
+                Parser.parse(duskIO, storage, tasks, journal, switcher, "use")));
+        assertThrows(InputException.class, () -> Parser.parse(duskIO, storage, tasks, journal, "use work"));
+    }
 }
@@ -0,0 +1,34 @@
+package dusk.command;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import dusk.metrics.Metrics;
+import dusk.ui.DuskIO;
+
+/**
+ * Test cases for {@link StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    /**
+     * Verifies that the stats command prints every metric.
+     */
+    @Test
+    public void executePrintsReport() throws IOException {
+        Metrics metrics = new Metrics();
+        metrics.counter("command.todo").add(2);
+        metrics.histogram("command.parse").record(1_500_000);
+
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            new StatsCommand(duskIO, metrics).execute();
+            String response = duskIO.getResponse();
+            assertTrue(response.startsWith("Here are my statistics:"), response);
+            assertTrue(response.contains("command.todo = 2"), response);
+            assertTrue(response.contains("command.parse: n=1"), response);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dusk.command;
+
+import dusk.storage.Storage;
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.Todo;
+import dusk.ui.DuskIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the functionality of the UndoCommand.
+ */
+public class UndoCommandTest {
+
+    private TaskList taskList;
+    private DuskIO duskIO;
+    private Storage storage;
+    private CommandJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        taskList = new TaskList();
+        duskIO = mock(DuskIO.class);
+        storage = mock(Storage.class);
+        journal = new CommandJournal();
+        when(storage.saveTasksAsync(taskList)).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Verifies that undoing a delete restores the task and saves once.
+     */
+    @Test
+    public void executeUndoDeleteRestoresTask() throws Exception {
+        taskList.addTask(new Todo("test task"));
+        new DeleteCommand(taskList, duskIO, storage, journal, "1").execute();
+
+        new UndoCommand(taskList, duskIO, storage, journal, "", true).execute();
+
+        assertEquals(1, taskList.size());
+        verify(duskIO).print(
+                eq("Undone 1 change:"),
+                eq("  delete [T][ ] test task"),
+                eq("Now you have 1 tasks in the list.")
+        );
+        verify(storage, times(2)).saveTasksAsync(taskList);
+    }
+
+    /**
+     * Verifies that several steps are undone and redone with a single save per command.
+     */
+    @Test
+    public void executeMultiStepUndoRedoSavesOncePerCommand() throws Exception {
+        new CreateTodoCommand(taskList, duskIO, storage, journal, "first").execute();
+        new CreateTodoCommand(taskList, duskIO, storage, journal, "second").execute();
+
+        new UndoCommand(taskList, duskIO, storage, journal, "2", true).execute();
+        assertEquals(0, taskList.size());
+        verify(storage, times(3)).saveTasksAsync(taskList);
+
+        new UndoCommand(taskList, duskIO, storage, journal, "2", false).execute();
+        assertEquals("first", taskList.getTask(0).getDescription());
+        assertEquals("second", taskList.getTask(1).getDescription());
+        verify(storage, times(4)).saveTasksAsync(taskList);
+    }
+
+    /**
+     * Verifies that undoing with an empty history reports it without saving.
+     */
+    @Test
+    public void executeNothingToUndoDoesNotSave() throws IOException, InputException, TaskListException {
+        new UndoCommand(taskList, duskIO, storage, journal, "", true).execute();
+
+        verify(duskIO).print("Nothing to undo!");
+        verify(storage, never()).saveTasksAsync(any());
+    }
+
+    /**
+     * Verifies that an undo failing part-way changes nothing, says so, and does not save.
+     */
+    @Test
+    public void executeFailedUndoChangesNothing() throws Exception {
+        new CreateTodoCommand(taskList, duskIO, storage, journal, "first").execute();
+        new CreateTodoCommand(taskList, duskIO, storage, journal, "second").execute();
+        taskList.removeTask(0);
+        taskList.insertTask(0, new Todo("other"));
+
+        TaskListException exception = assertThrows(TaskListException.class,
+                new UndoCommand(taskList, duskIO, storage, journal, "2", true)::execute);
+
+        assertTrue(exception.getMessage().endsWith("Nothing was undone."));
+        assertEquals(2, taskList.size());
+        assertEquals("second", taskList.getTask(1).getDescription());
+        verify(storage, times(2)).saveTasksAsync(taskList);
+    }
+
+    /**
+     * Verifies that an invalid step count throws an InputException.
+     */
+    @Test
+    public void executeInvalidStepsThrowsInputException() {
+        assertThrows(InputException.class,
+                new UndoCommand(taskList, duskIO, storage, journal, "zero", true)::execute);
+        assertThrows(InputException.class,
+                new UndoCommand(taskList, duskIO, storage, journal, "0", false)::execute);
+    }
+}
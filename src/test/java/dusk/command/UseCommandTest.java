@@ -0,0 +1,77 @@
+package dusk.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import dusk.storage.StorageException;
+import dusk.ui.DuskIO;
+
+/**
+ * Test cases for {@link UseCommand}.
+ */
+public class UseCommandTest {
+
+    /**
+     * Verifies that a name switches workspaces and reports the number of tasks.
+     */
+    @Test
+    public void executeSwitchesWorkspace() throws Exception {
+        RecordingSwitcher switcher = new RecordingSwitcher();
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            new UseCommand(duskIO, switcher, " Work ").execute();
+            String response = duskIO.getResponse();
+            assertEquals("work", switcher.current);
+            assertTrue(response.contains("Switched to the work workspace."), response);
+            assertTrue(response.contains("It has 3 tasks."), response);
+        }
+    }
+
+    /**
+     * Verifies that no name shows the current workspace without switching.
+     */
+    @Test
+    public void executeWithoutNameShowsCurrentWorkspace() throws Exception {
+        RecordingSwitcher switcher = new RecordingSwitcher();
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            new UseCommand(duskIO, switcher, "").execute();
+            assertTrue(duskIO.getResponse().contains("You are in the default workspace."));
+            assertEquals("default", switcher.current);
+        }
+    }
+
+    /**
+     * Verifies that names that cannot be used as file names are rejected.
+     */
+    @Test
+    public void executeRejectsInvalidNames() throws IOException {
+        RecordingSwitcher switcher = new RecordingSwitcher();
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            assertThrows(InputException.class, () -> new UseCommand(duskIO, switcher, "../secrets").execute());
+            assertThrows(InputException.class, () -> new UseCommand(duskIO, switcher, "data").execute());
+            assertEquals("default", switcher.current);
+        }
+    }
+
+    /**
+     * A switcher that records the workspace switched to, in which every workspace has three tasks.
+     */
+    private static class RecordingSwitcher implements WorkspaceSwitcher {
+        private String current = "default";
+
+        @Override
+        public String getCurrentWorkspace() {
+            return current;
+        }
+
+        @Override
+        public int useWorkspace(String name) throws StorageException {
+            current = name;
+            return 3;
+        }
+    }
+}
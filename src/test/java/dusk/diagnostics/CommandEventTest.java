@@ -0,0 +1,70 @@
+package dusk.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.DuskResponse;
+import dusk.ui.DuskResponseType;
+import dusk.ui.TaskListView;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test cases for {@link CommandEvent}.
+ */
+public class CommandEventTest {
+
+    /**
+     * Verifies that a completed command is recorded with its type, timings and response details.
+     */
+    @Test
+    public void completeRecordsCommand(@TempDir final Path tempDir) throws IOException {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Read book"));
+        DuskResponse response = new DuskResponse("", DuskResponseType.NORMAL,
+                new TaskListView("Here are the matching tasks in your list:", tasks));
+
+        Path file = tempDir.resolve("command.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            CommandEvent event = new CommandEvent();
+            event.start(true);
+            event.parsed();
+            event.complete("Find book", response);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        RecordedEvent recorded = events.get(0);
+        assertEquals("find", recorded.getString("commandType"));
+        assertTrue(recorded.getBoolean("isReadOnly"));
+        assertEquals("NORMAL", recorded.getString("responseType"));
+        assertEquals(1, recorded.getInt("listedTasks"));
+        assertFalse(recorded.getDuration("parseTime").isNegative());
+    }
+
+    /**
+     * Verifies that the command type is the first word of the input in lower case.
+     */
+    @Test
+    public void commandTypeIsFirstWord() {
+        assertEquals("todo", CommandEvent.commandType("  TODO read book "));
+        assertEquals("list", CommandEvent.commandType("list"));
+        assertEquals("", CommandEvent.commandType(null));
+    }
+}
@@ -0,0 +1,64 @@
+package dusk.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test cases for {@link StorageEvent}.
+ */
+public class StorageEventTest {
+
+    /**
+     * Verifies that saving and loading the data file each record an event with its size and task count.
+     */
+    @Test
+    public void saveAndLoadAreRecorded(@TempDir final Path tempDir) throws IOException, StorageException {
+        Path dataFile = tempDir.resolve("data.txt");
+        Storage storage = new Storage() {
+            @Override
+            protected Path getDataFile() {
+                return dataFile;
+            }
+        };
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Read book"));
+        tasks.addTask(new Todo("Return book"));
+
+        Path file = tempDir.resolve("storage.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(StorageEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            storage.saveTasks(tasks);
+            storage.loadTasks();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            assertEquals(Files.size(dataFile), event.getLong("bytes"));
+            assertEquals(2, event.getInt("taskCount"));
+            assertTrue(event.getBoolean("isSuccessful"));
+        }
+        assertEquals(StorageEvent.SAVE, events.get(0).getString("operation"));
+        assertEquals(StorageEvent.LOAD, events.get(1).getString("operation"));
+    }
+}
@@ -0,0 +1,47 @@
+package dusk.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link AvatarCache}.
+ */
+public class AvatarCacheTest {
+
+    private static final int OPAQUE_RED = 0xFFFF0000;
+
+    /**
+     * Verifies that the circle mask keeps the centre, clears the corners and blends the edge.
+     */
+    @Test
+    public void maskToCircleClearsCorners() {
+        int size = 10;
+        int[] argb = new int[size * size];
+        Arrays.fill(argb, OPAQUE_RED);
+
+        AvatarCache.maskToCircle(argb, size, size);
+
+        assertEquals(OPAQUE_RED, argb[5 * size + 5]);
+        assertEquals(0x00FF0000, argb[0]);
+        assertEquals(0x00FF0000, argb[size * size - 1]);
+        int edgeAlpha = argb[size + 1] >>> 24;
+        assertTrue(edgeAlpha > 0 && edgeAlpha < 0xFF, "edge pixel should be partly transparent");
+    }
+
+    /**
+     * Verifies that existing transparency is preserved inside the circle.
+     */
+    @Test
+    public void maskToCircleKeepsTransparency() {
+        int[] argb = new int[4 * 4];
+        Arrays.fill(argb, 0x80123456);
+
+        AvatarCache.maskToCircle(argb, 4, 4);
+
+        assertEquals(0x80123456, argb[4 + 1]);
+    }
+}
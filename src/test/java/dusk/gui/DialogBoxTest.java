@@ -0,0 +1,130 @@
+package dusk.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.DuskResponseType;
+import dusk.ui.TaskListView;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.VBox;
+
+/**
+ * Test cases for {@link DialogBox}, whose layout is built in code.
+ * Skipped when the JavaFX toolkit cannot start, e.g. on a headless machine.
+ */
+public class DialogBoxTest {
+
+    private static boolean isToolkitAvailable;
+
+    /**
+     * Starts the JavaFX toolkit once for all tests.
+     */
+    @BeforeAll
+    public static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit is already running.
+            started.countDown();
+        } catch (RuntimeException | UnsatisfiedLinkError e) {
+            return;
+        }
+        isToolkitAvailable = started.await(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Verifies that a Dusk bubble shows the text on the left of the avatar.
+     */
+    @Test
+    public void duskDialogShowsTextThenAvatar() throws Exception {
+        assumeTrue(isToolkitAvailable, "JavaFX toolkit is not available");
+        DialogBox box = onFxThread(() -> DialogBox.getDuskDialog("Hello", null, DuskResponseType.NORMAL));
+
+        assertEquals(Pos.TOP_RIGHT, box.getAlignment());
+        assertEquals(2, box.getChildren().size());
+        assertEquals("Hello", assertInstanceOf(Label.class, box.getChildren().get(0)).getText());
+        assertInstanceOf(ProfilePicture.class, box.getChildren().get(1));
+    }
+
+    /**
+     * Verifies that a user bubble is flipped so the avatar comes first.
+     */
+    @Test
+    public void userDialogShowsAvatarThenText() throws Exception {
+        assumeTrue(isToolkitAvailable, "JavaFX toolkit is not available");
+        DialogBox box = onFxThread(() -> DialogBox.getUserDialog("list", null));
+
+        assertEquals(Pos.TOP_LEFT, box.getAlignment());
+        assertInstanceOf(ProfilePicture.class, box.getChildren().get(0));
+        assertEquals("list", assertInstanceOf(Label.class, box.getChildren().get(1)).getText());
+    }
+
+    /**
+     * Verifies that an error bubble is styled as an error and has no avatar.
+     */
+    @Test
+    public void errorDialogHasErrorStyleAndNoAvatar() throws Exception {
+        assumeTrue(isToolkitAvailable, "JavaFX toolkit is not available");
+        DialogBox box = onFxThread(() -> DialogBox.getDuskDialog("Oops", null, DuskResponseType.ERROR));
+
+        assertEquals(1, box.getChildren().size());
+        Label label = assertInstanceOf(Label.class, box.getChildren().get(0));
+        assertTrue(label.getStyleClass().contains("error-box"));
+    }
+
+    /**
+     * Verifies that a reused bubble shows a task list below the text and hides it again for plain text.
+     */
+    @Test
+    public void setMessageShowsAndHidesTaskList() throws Exception {
+        assumeTrue(isToolkitAvailable, "JavaFX toolkit is not available");
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read book"));
+        TaskListView view = new TaskListView("Here are all the tasks:", tasks);
+
+        DialogBox box = onFxThread(() -> DialogBox.getTaskListDialog("", view, null));
+        VBox content = assertInstanceOf(VBox.class, box.getChildren().get(0));
+        Label label = assertInstanceOf(Label.class, content.getChildren().get(0));
+        ListView<?> list = assertInstanceOf(ListView.class, content.getChildren().get(1));
+        assertEquals("Here are all the tasks:", label.getText());
+        assertEquals(1, list.getItems().size());
+        assertEquals("1. [T][ ] read book", list.getItems().get(0));
+
+        onFxThread(() -> {
+            box.setMessage("Bye", null);
+            return null;
+        });
+        assertEquals("Bye", label.getText());
+        assertFalse(list.isVisible());
+        assertFalse(list.isManaged());
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread and waits for its result.
+     *
+     * @param task the task to run.
+     * @return the result of the task.
+     */
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
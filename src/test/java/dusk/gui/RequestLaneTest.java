@@ -0,0 +1,140 @@
+package dusk.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link RequestLane}.
+ */
+public class RequestLaneTest {
+
+    private RequestLane lane;
+
+    /**
+     * Creates a lane with room for two waiting requests.
+     */
+    @BeforeEach
+    public void setUp() {
+        lane = new RequestLane("test-lane", 2);
+    }
+
+    /**
+     * Shuts the lane down after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        lane.shutdown();
+    }
+
+    /**
+     * Verifies that requests run one at a time in submission order.
+     */
+    @Test
+    public void submitRunsInOrder() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<?> last = null;
+        for (int i = 0; i < 3; i++) {
+            int id = i;
+            last = lane.submit(() -> order.add(id), false);
+        }
+        last.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(0, 1, 2), order);
+    }
+
+    /**
+     * Verifies that a supersedable request cancels a running supersedable request.
+     */
+    @Test
+    public void submitCancelsRunningSupersededRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> slow = lane.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "slow";
+        }, true);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> fast = lane.submit(() -> "fast", true);
+        assertEquals("fast", fast.get(5, TimeUnit.SECONDS));
+        assertTrue(slow.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Verifies that requests which are not supersedable are never cancelled.
+     */
+    @Test
+    public void submitKeepsNonSupersedableRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocker = lane.submit(() -> {
+            release.await();
+            return "mutation";
+        }, false);
+        CompletableFuture<String> query = lane.submit(() -> "query", true);
+        release.countDown();
+        assertEquals("mutation", blocker.get(5, TimeUnit.SECONDS));
+        assertEquals("query", query.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Verifies that submissions beyond the queue capacity are rejected.
+     */
+    @Test
+    public void submitRejectsWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        lane.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        }, false);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        lane.submit(() -> null, false);
+        lane.submit(() -> null, false);
+        CompletableFuture<Object> rejected = lane.submit(() -> null, false);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    /**
+     * Verifies that requests still waiting at shutdown are cancelled.
+     */
+    @Test
+    public void shutdownCancelsWaitingRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        lane.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        }, false);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> waiting = lane.submit(() -> null, false);
+        lane.shutdown();
+        release.countDown();
+
+        assertThrows(CancellationException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,131 @@
+package dusk.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest {
+
+    /**
+     * Verifies that records are written in order on the writer thread rather than the caller's.
+     */
+    @Test
+    public void publishWritesOnWriterThread() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 16);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), delegate.messages);
+        assertEquals(List.of("dusk-log-writer", "dusk-log-writer"), delegate.threadNames);
+        handler.close();
+    }
+
+    /**
+     * Verifies that records arriving while the buffer is full are dropped, counted and reported.
+     */
+    @Test
+    public void publishDropsWhenFull() throws InterruptedException {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4);
+
+        handler.publish(new LogRecord(Level.SEVERE, "stuck"));
+        assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.SEVERE, "error " + i));
+        }
+        assertEquals(6L, handler.getDroppedCount());
+        assertEquals(4, handler.getQueuedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("stuck", "error 0", "error 1", "error 2", "error 3",
+                "Dropped 6 log records because the log buffer was full"), delegate.messages);
+    }
+
+    /**
+     * Verifies that closing writes every queued record before closing the delegate.
+     */
+    @Test
+    public void closeWritesQueuedRecords() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 128);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(100, delegate.messages.size());
+        assertEquals("record 99", delegate.messages.get(99));
+        assertTrue(delegate.isClosed);
+    }
+
+    /**
+     * Verifies that records the delegate would discard are not queued.
+     */
+    @Test
+    public void publishSkipsRecordsBelowDelegateLevel() {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.setLevel(Level.WARNING);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 16);
+
+        handler.publish(new LogRecord(Level.FINE, "detail"));
+        handler.publish(new LogRecord(Level.WARNING, "problem"));
+        handler.close();
+
+        assertEquals(List.of("problem"), delegate.messages);
+    }
+
+    /**
+     * A handler that remembers what it was given.
+     */
+    private static class RecordingHandler extends Handler {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package dusk.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link RingBuffer}.
+ */
+public class RingBufferTest {
+
+    /**
+     * Verifies first-in, first-out order and that a full buffer rejects elements until one is removed.
+     */
+    @Test
+    public void offerAndPollWrapAround() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        for (int lap = 0; lap < 3; lap++) {
+            assertTrue(buffer.offer(lap * 10));
+            assertTrue(buffer.offer(lap * 10 + 1));
+            assertFalse(buffer.offer(-1));
+            assertEquals(2, buffer.size());
+            assertEquals(lap * 10, buffer.poll().intValue());
+            assertEquals(lap * 10 + 1, buffer.poll().intValue());
+            assertNull(buffer.poll());
+        }
+        assertEquals(6L, buffer.getRemovedCount());
+    }
+
+    /**
+     * Verifies that concurrent producers neither lose nor duplicate elements.
+     */
+    @Test
+    public void concurrentOffersAreAllPolled() throws InterruptedException {
+        int producerCount = 4;
+        int perProducer = 10_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int first = p * perProducer;
+            Thread producer = new Thread(() -> {
+                for (int i = first; i < first + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        boolean[] seen = new boolean[producerCount * perProducer];
+        int[] lastSeen = new int[producerCount];
+        Arrays.fill(lastSeen, -1);
+        for (int received = 0; received < seen.length; ) {
+            Integer value = buffer.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertFalse(seen[value]);
+            seen[value] = true;
+            // Each producer's elements arrive in the order it offered them.
+            int producer = value / perProducer;
+            assertTrue(value > lastSeen[producer]);
+            lastSeen[producer] = value;
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertNull(buffer.poll());
+    }
+
+    /**
+     * Verifies that the capacity must be a power of two.
+     */
+    @Test
+    public void constructorRejectsOtherCapacities() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(3));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+    }
+}
@@ -0,0 +1,59 @@
+package dusk.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Verifies that every value falls into a bucket whose bounds contain it and are within 1/16 of it.
+     */
+    @Test
+    public void bucketsContainTheirValues() {
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertTrue(upper >= value, "upper bound below " + value);
+            assertTrue(upper - value <= value / 16, "bucket too wide for " + value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(bucket - 1) < value, "previous bucket holds " + value);
+            }
+        }
+    }
+
+    /**
+     * Verifies count, mean, maximum and percentiles of recorded values.
+     */
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500.0, histogram.getMean());
+        assertEquals(1_000_000, histogram.getMax());
+        long p50 = histogram.getPercentile(0.50);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 17 / 16, "p50 was " + p50);
+        long p99 = histogram.getPercentile(0.99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 was " + p99);
+    }
+
+    /**
+     * Verifies that an empty histogram reports zeros.
+     */
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0.99));
+        assertEquals(0.0, histogram.getMean());
+    }
+}
@@ -0,0 +1,64 @@
+package dusk.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link Metrics}.
+ */
+public class MetricsTest {
+
+    /**
+     * Verifies that counters and histograms are created once and shared by name.
+     */
+    @Test
+    public void metricsAreSharedByName() {
+        Metrics metrics = new Metrics();
+        assertSame(metrics.counter("a"), metrics.counter("a"));
+        assertSame(metrics.histogram("h"), metrics.histogram("h"));
+
+        metrics.counter("a").add(3);
+        metrics.histogram("h").record(2_000_000);
+        metrics.gauge("g", () -> 7);
+
+        assertEquals(3L, metrics.getCounters().get("a").longValue());
+        assertEquals(7L, metrics.getGauges().get("g").longValue());
+        assertEquals(1L, metrics.getLatencies().get("h.count").longValue());
+        assertEquals(2_000_000L, metrics.getLatencies().get("h.max").longValue());
+    }
+
+    /**
+     * Verifies that the report includes hit rates for matching hit and miss counters.
+     */
+    @Test
+    public void reportIncludesHitRates() {
+        Metrics metrics = new Metrics();
+        metrics.counter("cache.x.hit").add(3);
+        metrics.counter("cache.x.miss").add(1);
+
+        List<String> report = metrics.getReport();
+
+        assertTrue(report.contains("  cache.x hit rate = 75.0%"), report.toString());
+    }
+
+    /**
+     * Verifies that the process-wide registry is exported over JMX.
+     */
+    @Test
+    public void registerMBeanExportsRegistry() throws Exception {
+        Metrics.registerMBean();
+        Metrics.registerMBean();
+
+        ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Report");
+    }
+}
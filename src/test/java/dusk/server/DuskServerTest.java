@@ -0,0 +1,252 @@
+package dusk.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.metrics.Metrics;
+import dusk.task.Deadline;
+import dusk.task.Event;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.DuskResponse;
+import dusk.ui.DuskResponseType;
+
+/**
+ * Test cases for {@link DuskServer}.
+ */
+public class DuskServerTest {
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Metrics metrics = new Metrics();
+    private DuskServer server;
+
+    /**
+     * Starts a server over a fixed task list, whose commands echo their input.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read \"book\""));
+        tasks.addTask(new Deadline("return book", LocalDateTime.of(2024, 3, 20, 14, 0)));
+        tasks.addTask(new Event("meeting", LocalDateTime.of(2024, 3, 21, 9, 0), LocalDateTime.of(2024, 3, 21, 10, 0)));
+        server = new DuskServer(input -> input.startsWith("bad")
+                ? new DuskResponse("Invalid command format", DuskResponseType.ERROR)
+                : new DuskResponse("Ran " + input, DuskResponseType.NORMAL), () -> tasks, 0, null, metrics);
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Verifies that a posted command is run and its response returned, with errors as 400.
+     */
+    @Test
+    public void postCommandReturnsResponse() throws Exception {
+        HttpResponse<String> response = post("/command", "list");
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"type\":\"NORMAL\",\"message\":\"Ran list\"}", response.body());
+
+        HttpResponse<String> error = post("/command", "bad input");
+        assertEquals(400, error.statusCode());
+        assertEquals("{\"type\":\"ERROR\",\"message\":\"Invalid command format\"}", error.body());
+        assertEquals(2L, metrics.getCounters().get("server.requests").longValue());
+    }
+
+    /**
+     * Verifies that every task is listed as JSON, with descriptions escaped.
+     */
+    @Test
+    public void getTasksListsEveryTask() throws Exception {
+        HttpResponse<String> response = get("/tasks");
+        assertEquals(200, response.statusCode());
+        assertEquals("[{\"type\":\"todo\",\"description\":\"read \\\"book\\\"\",\"done\":false},"
+                + "{\"type\":\"deadline\",\"by\":\"2024-03-20T14:00\",\"description\":\"return book\",\"done\":false},"
+                + "{\"type\":\"event\",\"from\":\"2024-03-21T09:00\",\"to\":\"2024-03-21T10:00\","
+                + "\"description\":\"meeting\",\"done\":false}]", response.body());
+    }
+
+    /**
+     * Verifies that tasks can be filtered by keyword, date and date range.
+     */
+    @Test
+    public void getTasksAppliesFilters() throws Exception {
+        assertEquals(2, count(get("/tasks?q=book").body()));
+        assertEquals(1, count(get("/tasks?on=2024-03-21").body()));
+        assertEquals(1, count(get("/tasks?q=book&from=2024-03-20%200000&to=2024-03-22").body()));
+        assertEquals(0, count(get("/tasks?q=nothing").body()));
+    }
+
+    /**
+     * Verifies that invalid filters and wrong methods are rejected.
+     */
+    @Test
+    public void invalidRequestsAreRejected() throws Exception {
+        assertEquals(400, get("/tasks?from=2024-03-20").statusCode());
+        assertEquals(400, get("/tasks?on=tomorrow-ish").statusCode());
+        assertEquals(405, get("/command").statusCode());
+        assertEquals(405, post("/tasks", "").statusCode());
+    }
+
+    /**
+     * Verifies that a rejected request leaves its connection open for the next one.
+     */
+    @Test
+    public void rejectedRequestKeepsConnectionOpen() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(5_000);
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            out.write("GET /command HTTP/1.1\r\nHost: localhost\r\n\r\n");
+            out.flush();
+            assertTrue(readStatusLine(in).contains(" 405 "));
+            out.write("POST /command HTTP/1.1\r\nHost: localhost\r\nContent-Length: 4\r\n\r\nlist");
+            out.flush();
+            assertTrue(readStatusLine(in).contains(" 401 "));
+        }
+    }
+
+    /**
+     * Verifies that commands without the launch token, from web pages or over the size limit are not run.
+     */
+    @Test
+    public void untrustedCommandsAreRejected() throws Exception {
+        HttpResponse<String> noToken = client.send(HttpRequest.newBuilder(uri("/command"))
+                .POST(HttpRequest.BodyPublishers.ofString("delete 1")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, noToken.statusCode());
+        assertEquals(401, client.send(HttpRequest.newBuilder(uri("/command"))
+                .header(DuskServer.TOKEN_HEADER, "guess")
+                .POST(HttpRequest.BodyPublishers.ofString("delete 1")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(403, client.send(HttpRequest.newBuilder(uri("/command"))
+                .header(DuskServer.TOKEN_HEADER, server.getToken())
+                .header("Origin", "https://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("delete 1")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(403, client.send(HttpRequest.newBuilder(uri("/tasks"))
+                .header("Origin", "https://example.com").GET().build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(413, post("/command", "todo " + "x".repeat(DuskServer.MAX_BODY_BYTES)).statusCode());
+        assertEquals(5L, metrics.getCounters().get("server.errors").longValue());
+    }
+
+    /**
+     * Verifies that only loopback host names are accepted, with or without a port.
+     */
+    @Test
+    public void isLocalHostAcceptsOnlyLoopbackNames() {
+        assertTrue(DuskServer.isLocalHost("localhost:8080"));
+        assertTrue(DuskServer.isLocalHost("127.0.0.1"));
+        assertTrue(DuskServer.isLocalHost("[::1]:8080"));
+        assertTrue(DuskServer.isLocalHost("LOCALHOST"));
+        assertFalse(DuskServer.isLocalHost("evil.example:8080"));
+        assertFalse(DuskServer.isLocalHost("localhost.evil.example"));
+        assertFalse(DuskServer.isLocalHost(null));
+    }
+
+    /**
+     * Verifies that the launch token is written to its file while the server runs.
+     *
+     * @param tempDir the temporary directory provided by JUnit
+     */
+    @Test
+    public void tokenFileHoldsTokenWhileRunning(@TempDir Path tempDir) throws Exception {
+        Path tokenFile = tempDir.resolve("data").resolve("server.token");
+        DuskServer other = new DuskServer(input -> null, TaskList::new, 0, tokenFile, metrics);
+        other.start();
+        try {
+            assertEquals(other.getToken(), Files.readString(tokenFile));
+            assertFalse(other.getToken().equals(server.getToken()));
+        } finally {
+            other.stop();
+        }
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    /**
+     * Reads a response's status line and skips its headers, leaving any body unread.
+     *
+     * @param in the connection's input.
+     * @return the status line.
+     */
+    private static String readStatusLine(BufferedReader in) throws IOException {
+        String line = in.readLine();
+        assertNotNull(line, "Connection closed before the response");
+        String header = in.readLine();
+        while (header != null && !header.isEmpty()) {
+            header = in.readLine();
+        }
+        return line;
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param path the path and query.
+     * @return the response.
+     */
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a POST request carrying the launch token.
+     *
+     * @param path the path.
+     * @param body the request body.
+     * @return the response.
+     */
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).header(DuskServer.TOKEN_HEADER, server.getToken())
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns the URI of a path on the server.
+     *
+     * @param path the path and query.
+     * @return the URI.
+     */
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    /**
+     * Counts the tasks in a JSON listing.
+     *
+     * @param json the listing.
+     * @return the number of tasks.
+     */
+    private static int count(String json) {
+        return json.split("\"type\"", -1).length - 1;
+    }
+}
@@ -0,0 +1,154 @@
+package dusk.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.task.TaskList;
+import dusk.task.Todo;
+import dusk.ui.TaskListView;
+
+/**
+ * Test cases for {@link ChatHistory}.
+ */
+public class ChatHistoryTest {
+
+    private Path logFile;
+    private Path indexFile;
+
+    /**
+     * Places the history files in a temporary directory.
+     *
+     * @param tempDir the temporary directory provided by JUnit
+     */
+    @BeforeEach
+    public void setUp(@TempDir final Path tempDir) {
+        logFile = tempDir.resolve("history.log");
+        indexFile = tempDir.resolve("history.idx");
+    }
+
+    /**
+     * Verifies that any page of messages can be read back in order.
+     */
+    @Test
+    public void readPagesInOrder() throws StorageException, IOException {
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            for (int i = 0; i < 10; i++) {
+                history.append((byte) (i % 3), "message " + i + " ✓");
+            }
+            assertEquals(10, history.size());
+
+            List<ChatHistory.Entry> page = history.read(4, 3);
+            assertEquals(3, page.size());
+            assertEquals(4, page.get(0).getIndex());
+            assertEquals("message 4 ✓", page.get(0).getText());
+            assertEquals((byte) 0, page.get(2).getKind());
+
+            List<ChatHistory.Entry> latest = history.readLatest(4);
+            assertEquals(6, latest.get(0).getIndex());
+            assertEquals("message 9 ✓", latest.get(3).getText());
+
+            assertEquals(2, history.read(8, 5).size());
+            assertTrue(history.read(10, 5).isEmpty());
+        }
+    }
+
+    /**
+     * Verifies that messages survive reopening the history.
+     */
+    @Test
+    public void reopenKeepsMessages() throws StorageException, IOException {
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            history.append((byte) 1, "first");
+            history.append((byte) 2, "second");
+        }
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            assertEquals(2, history.size());
+            history.append((byte) 1, "third");
+            assertEquals("second", history.read(1, 1).get(0).getText());
+            assertEquals("third", history.read(2, 1).get(0).getText());
+        }
+    }
+
+    /**
+     * Verifies that a partially written last record is discarded on reopening.
+     */
+    @Test
+    public void reopenDropsIncompleteRecord() throws StorageException, IOException {
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            history.append((byte) 1, "complete");
+            history.append((byte) 1, "interrupted");
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(logFile) - 3);
+        }
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            assertEquals(1, history.size());
+            history.append((byte) 1, "next");
+            assertEquals("next", history.read(1, 1).get(0).getText());
+        }
+    }
+
+    /**
+     * Verifies that asynchronous appends and reads run in submission order.
+     */
+    @Test
+    public void asyncOperationsRunInOrder() throws Exception {
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            history.appendAsync((byte) 0, "a");
+            history.appendAsync((byte) 0, "b");
+            List<ChatHistory.Entry> entries = history.readLatestAsync(5).get();
+            assertEquals(2, entries.size());
+            assertEquals("b", entries.get(1).getText());
+        }
+    }
+
+    /**
+     * Verifies that a task list is stored below the text as it was when the list was taken,
+     * even if the tasks are marked before it is rendered.
+     */
+    @Test
+    public void appendWithTaskListStoresRenderedList() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read book"));
+        TaskListView view = new TaskListView("Here are all the tasks:", new TaskList(tasks));
+        tasks.setDone(0, true);
+
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            history.appendAsync((byte) 1, "", view).get();
+            String text = history.readLatest(1).get(0).getText();
+            assertEquals(view.render(), text);
+            assertTrue(text.contains("[T][ ] read book"), text);
+        }
+    }
+
+    /**
+     * Verifies that only the first items of a long task list are stored, followed by a count of the rest.
+     */
+    @Test
+    public void appendWithLongTaskListStoresPreview() throws Exception {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < ChatHistory.MAX_STORED_ITEMS + 5; i++) {
+            tasks.addTask(new Todo("task " + i));
+        }
+
+        try (ChatHistory history = new ChatHistory(logFile, indexFile)) {
+            history.appendAsync((byte) 1, "", new TaskListView("Here are all the tasks:", tasks)).get();
+            String text = history.readLatest(1).get(0).getText();
+            assertEquals(ChatHistory.MAX_STORED_ITEMS + 2, text.lines().count());
+            int last = ChatHistory.MAX_STORED_ITEMS;
+            assertTrue(text.contains(last + ". [T][ ] task " + (last - 1)), text);
+            assertTrue(text.endsWith("... and 5 more" + System.lineSeparator()), text);
+        }
+    }
+}
@@ -84,6 +84,38 @@ public class StorageTest {
                 "Second task should remain unmarked by default");
     }
 
+    /**
+     * Verifies that every save adds the size of the written file to the bytes written.
+     */
+    @Test
+    public void saveTasksCountsBytesWritten() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Test Todo"));
+        long before = Storage.getBytesWritten();
+
+        storage.saveTasks(tasks);
+        storage.saveTasks(tasks);
+
+        assertEquals(2 * Files.size(tempDataFile), Storage.getBytesWritten() - before);
+    }
+
+    /**
+     * Verifies that each instance has its own file and executor, so shutting one down leaves others working.
+     */
+    @Test
+    public void instancesHaveSeparateFilesAndExecutors(@TempDir Path otherDir) throws Exception {
+        Storage other = new Storage(otherDir.resolve("other.txt"));
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Test Todo"));
+
+        other.shutdownExecutor();
+        storage.saveTasksAsync(tasks).join();
+
+        assertEquals(1, storage.loadTasksAsync().join().size());
+        assertFalse(Files.exists(otherDir.resolve("other.txt")));
+        assertEquals(0, other.loadTasks().size());
+    }
+
     /**
      * Verifies that an invalid task line in the data file causes a {@code StorageException}.
      *
@@ -0,0 +1,91 @@
+package dusk.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link IncrementalSearch}.
+ */
+public class IncrementalSearchTest {
+
+    private TaskList tasks;
+    private IncrementalSearch search;
+
+    /**
+     * Creates a task list and a fresh search before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        tasks.addTask(new Todo("Buy groceries"));
+        tasks.addTask(new Todo("Read book"));
+        tasks.addTask(new Todo("buy BOOKS"));
+        tasks.addTask(new Todo("Return library book"));
+        search = new IncrementalSearch();
+    }
+
+    /**
+     * Verifies that matching ignores case and keeps list order, like TaskList.search.
+     */
+    @Test
+    public void searchMatchesTaskListSearch() throws TaskListException {
+        TaskList expected = tasks.search("BOOK", null, null, null);
+        TaskList actual = search.search(tasks, "BOOK");
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getTask(i), actual.getTask(i));
+        }
+    }
+
+    /**
+     * Verifies that extending the keyword only re-checks the previous matches.
+     */
+    @Test
+    public void searchRefinesPreviousResults() throws TaskListException {
+        assertEquals(3, search.search(tasks, "u").size());
+        assertEquals(4, search.getLastCheckedCount());
+
+        TaskList refined = search.search(tasks, "uy");
+        assertEquals(3, search.getLastCheckedCount());
+        assertEquals(2, refined.size());
+        assertEquals("buy BOOKS", refined.getTask(1).getDescription());
+
+        assertEquals(1, search.search(tasks, "uy b").size());
+        assertEquals(2, search.getLastCheckedCount());
+    }
+
+    /**
+     * Verifies that a shorter keyword or a different task list triggers a full scan.
+     */
+    @Test
+    public void searchRescansWhenNotARefinement() {
+        search.search(tasks, "buy");
+        assertEquals(4, search.search(tasks, "b").size());
+        assertEquals(4, search.getLastCheckedCount());
+
+        TaskList changed = new TaskList(tasks);
+        changed.addTask(new Todo("Buy milk"));
+        assertEquals(5, search.search(changed, "b").size());
+        assertEquals(5, search.getLastCheckedCount());
+    }
+
+    /**
+     * Verifies that a search on an interrupted thread is cancelled and does not disturb later searches.
+     */
+    @Test
+    public void searchOnInterruptedThreadThrowsCancellationException() {
+        search.search(tasks, "u");
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> search.search(tasks, "uy"));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(2, search.search(tasks, "uy").size());
+    }
+}
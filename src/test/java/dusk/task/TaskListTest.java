@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 
 /**
@@ -207,4 +210,68 @@ class TaskListTest {
         // Note: Specific date-based testing would depend on your Task implementation
         assertNotNull(results);
     }
+
+    /**
+     * Verifies that a search on an interrupted thread is cancelled.
+     */
+    @Test
+    void searchOnInterruptedThreadThrowsCancellationException() {
+        taskList.addTask(new Todo("Read book"));
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> taskList.search("book", null, null, null));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Verifies that listeners are told about each change with its index, and that copies do not inherit them.
+     */
+    @Test
+    void listenersReceiveChanges() throws TaskListException, MarkTaskException {
+        List<String> events = new ArrayList<>();
+        taskList.addListener(new TaskListListener() {
+            @Override
+            public void onTaskAdded(int index, Task task) {
+                events.add("added " + index + " " + task.getDescription());
+            }
+
+            @Override
+            public void onTaskRemoved(int index, Task task) {
+                events.add("removed " + index + " " + task.getDescription());
+            }
+
+            @Override
+            public void onTaskUpdated(int index, Task task) {
+                events.add("updated " + index + " " + task.getDone());
+            }
+        });
+        taskList.addTask(new Todo("a"));
+        taskList.insertTask(0, new Todo("b"));
+        taskList.markTask(1);
+        taskList.setDone(1, false);
+        taskList.removeTask(0);
+        new TaskList(taskList).addTask(new Todo("copy"));
+
+        assertEquals(List.of("added 0 a", "added 0 b", "updated 1 true", "updated 1 false", "removed 0 b"), events);
+    }
+
+    /**
+     * Verifies that marking replaces the task with a copy, leaving copies of the list unchanged.
+     */
+    @Test
+    void setDoneReplacesTaskWithCopy() throws TaskListException {
+        Task task = new Todo("read book");
+        taskList.addTask(task);
+        TaskList copy = new TaskList(taskList);
+
+        taskList.setDone(0, true);
+
+        assertTrue(taskList.getTask(0).getDone());
+        assertTrue(taskList.getTask(0).isSameTask(task));
+        assertFalse(task.getDone());
+        assertFalse(copy.getTask(0).getDone());
+        assertFalse(new Todo("read book").isSameTask(task));
+    }
 }
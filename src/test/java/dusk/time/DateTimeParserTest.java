@@ -0,0 +1,80 @@
+package dusk.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link DateTimeParser}.
+ */
+public class DateTimeParserTest {
+
+    /**
+     * Verifies that a date with a time is parsed correctly.
+     */
+    @Test
+    public void parseDateTimeSuccess() {
+        assertEquals(LocalDateTime.of(2024, 3, 20, 14, 5), DateTimeParser.parse("2024-03-20 1405"));
+    }
+
+    /**
+     * Verifies that a date without a time defaults to midnight.
+     */
+    @Test
+    public void parseDateOnlyDefaultsToMidnight() {
+        assertEquals(LocalDateTime.of(2024, 3, 20, 0, 0), DateTimeParser.parse("2024-03-20"));
+    }
+
+    /**
+     * Verifies that repeated values resolve to the same instance.
+     */
+    @Test
+    public void parseRepeatedValueReturnsCanonicalInstance() {
+        LocalDateTime first = DateTimeParser.parse("2024-06-01 0930");
+        LocalDateTime second = DateTimeParser.parse(new StringBuilder("2024-06-01 0930"));
+        assertSame(first, second);
+        assertSame(first, DateTimeParser.canonical(LocalDateTime.of(2024, 6, 1, 9, 30)));
+    }
+
+    /**
+     * Verifies that values first seen after the cache has filled up are still canonicalized.
+     */
+    @Test
+    public void parseAfterCacheFillsReturnsCanonicalInstance() {
+        LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+        for (int i = 0; i <= DateTimeParser.CACHE_CAPACITY; i++) {
+            DateTimeParser.canonical(start.plusMinutes(i));
+        }
+        LocalDateTime first = DateTimeParser.parse("2031-07-15 1745");
+        assertSame(first, DateTimeParser.parse("2031-07-15 1745"));
+    }
+
+    /**
+     * Verifies that out-of-month days are clamped and 2400 rolls over to the next day.
+     */
+    @Test
+    public void parseResolvesLikeSmartFormatter() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), DateTimeParser.parse("2024-02-30"));
+        assertEquals(LocalDateTime.of(2023, 2, 28, 0, 0), DateTimeParser.parse("2023-02-29"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 0, 0), DateTimeParser.parse("2024-01-01 2400"));
+    }
+
+    /**
+     * Verifies that malformed or out-of-range values throw a DateTimeParseException.
+     */
+    @Test
+    public void parseInvalidInputThrowsDateTimeParseException() {
+        String[] invalidInputs = {
+            "", "2024/01/01", "2024-1-01", "2024-01-01 12", "2024-01-01T1200",
+            "2024-13-01", "2024-00-10", "2024-01-32", "2024-01-01 1260", "2024-01-01 2401", "0000-01-01"
+        };
+        for (String input : invalidInputs) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.parse(input), input);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dusk.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link RelativeDateParser}.
+ */
+public class RelativeDateParserTest {
+
+    private RelativeDateParser parser;
+
+    /**
+     * Fixes the clock at Wednesday, 2025-01-15 10:30 UTC.
+     */
+    @BeforeEach
+    public void setUp() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 1, 15, 10, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        parser = new RelativeDateParser(clock);
+    }
+
+    /**
+     * Verifies that day keywords resolve relative to today, with an optional time.
+     */
+    @Test
+    public void parseDayKeywords() {
+        assertEquals(LocalDateTime.of(2025, 1, 15, 0, 0), parser.parse("today"));
+        assertEquals(LocalDateTime.of(2025, 1, 16, 14, 0), parser.parse("tomorrow 1400"));
+        assertEquals(LocalDateTime.of(2025, 1, 16, 0, 0), parser.parse("TMR"));
+        assertEquals(LocalDateTime.of(2025, 1, 14, 0, 0), parser.parse("yesterday"));
+    }
+
+    /**
+     * Verifies that end of week resolves to Sunday at 23:59 unless a time is given.
+     */
+    @Test
+    public void parseEndOfWeek() {
+        assertEquals(LocalDateTime.of(2025, 1, 19, 23, 59), parser.parse("eow"));
+        assertEquals(LocalDateTime.of(2025, 1, 19, 9, 0), parser.parse("eow 0900"));
+    }
+
+    /**
+     * Verifies that weekdays resolve to their next occurrence, and that next skips today.
+     */
+    @Test
+    public void parseWeekdays() {
+        assertEquals(LocalDateTime.of(2025, 1, 17, 0, 0), parser.parse("fri"));
+        assertEquals(LocalDateTime.of(2025, 1, 17, 0, 0), parser.parse("next friday"));
+        assertEquals(LocalDateTime.of(2025, 1, 15, 0, 0), parser.parse("wed"));
+        assertEquals(LocalDateTime.of(2025, 1, 22, 0, 0), parser.parse("next wed"));
+        assertEquals(LocalDateTime.of(2025, 1, 20, 8, 15), parser.parse("Next Mon 0815"));
+        assertEquals(LocalDateTime.of(2025, 1, 22, 0, 0), parser.parse("next week"));
+    }
+
+    /**
+     * Verifies that offsets in days and weeks are added to today.
+     */
+    @Test
+    public void parseInOffsets() {
+        assertEquals(LocalDateTime.of(2025, 1, 18, 0, 0), parser.parse("in 3 days"));
+        assertEquals(LocalDateTime.of(2025, 1, 16, 0, 0), parser.parse("in 1 day"));
+        assertEquals(LocalDateTime.of(2025, 1, 29, 17, 0), parser.parse("in 2 weeks 1700"));
+    }
+
+    /**
+     * Verifies that unrecognised input throws a DateTimeParseException.
+     */
+    @Test
+    public void parseInvalidInputThrowsDateTimeParseException() {
+        String[] invalidInputs = {
+            "", "someday", "next", "next tomorrow", "in days", "in 3", "in 3 months",
+            "today 25", "today 2400", "tomorrow at 1400", "fri 1400 extra"
+        };
+        for (String input : invalidInputs) {
+            assertThrows(DateTimeParseException.class, () -> parser.parse(input), input);
+        }
+    }
+}
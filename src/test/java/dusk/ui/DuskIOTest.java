@@ -0,0 +1,146 @@
+package dusk.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import dusk.task.TaskList;
+import dusk.task.TaskListException;
+import dusk.task.Todo;
+
+/**
+ * Test cases for {@link DuskIO}.
+ */
+public class DuskIOTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    /**
+     * Verifies that a response DuskIO collects printed lines.
+     */
+    @Test
+    public void forResponseCollectsOutput() throws IOException {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            duskIO.print("first", "second");
+            duskIO.print("third");
+            assertEquals("first" + NEWLINE + "second" + NEWLINE + "third" + NEWLINE, duskIO.getResponse());
+        }
+    }
+
+    /**
+     * Verifies that each response DuskIO starts empty even though the buffer is reused.
+     */
+    @Test
+    public void forResponseStartsEmpty() throws IOException {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            duskIO.print("previous");
+        }
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            assertEquals("", duskIO.getResponse());
+        }
+    }
+
+    /**
+     * Verifies that writer-backed output is delivered once flushed.
+     */
+    @Test
+    public void printToWriterFlushesOnClose() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (DuskIO duskIO = new DuskIO(new StringReader(""), writer)) {
+            duskIO.print("message");
+            assertThrows(IllegalStateException.class, duskIO::getResponse);
+        }
+        assertEquals("message" + NEWLINE, writer.toString());
+    }
+
+    /**
+     * Verifies that a response DuskIO keeps a printed task list as a payload
+     * that renders to the same text a writer-backed DuskIO prints.
+     */
+    @Test
+    public void printTaskListKeepsPayload() throws IOException, TaskListException {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read book"));
+        tasks.addTask(new Todo("return book"));
+        TaskListView view = new TaskListView("Here are all the tasks:", tasks);
+
+        DuskResponse response;
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            duskIO.printTaskList(view);
+            assertEquals("", duskIO.getResponse());
+            assertSame(view, duskIO.getPayload());
+            response = new DuskResponse(duskIO.getResponse(), DuskResponseType.NORMAL, duskIO.getPayload());
+        }
+
+        StringWriter writer = new StringWriter();
+        try (DuskIO duskIO = new DuskIO(new StringReader(""), writer)) {
+            duskIO.printTaskList(view);
+        }
+        assertTrue(response.hasPayload());
+        assertEquals("2. [T][ ] return book", response.getPayload().getItem(1));
+        assertEquals(writer.toString(), response.getMessage());
+    }
+
+    /**
+     * Allocation benchmark: a response DuskIO allocates at least an order of magnitude less
+     * per command than a reader/writer-backed DuskIO.
+     */
+    @Test
+    public void forResponseAllocatesAnOrderOfMagnitudeLess() throws IOException {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int iterations = 2_000;
+
+        for (int i = 0; i < iterations; i++) {
+            printWithWriter();
+            printWithResponseBuffer();
+        }
+
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            printWithWriter();
+        }
+        long writerBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            printWithResponseBuffer();
+        }
+        long responseBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        assertTrue(responseBytes * 10 < writerBytes,
+                "Expected at least 10x fewer bytes, but was " + responseBytes / iterations
+                        + " vs " + writerBytes / iterations + " bytes per command");
+    }
+
+    /**
+     * Prints a typical reply through a reader/writer-backed DuskIO, as each command used to.
+     */
+    private static String printWithWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (DuskIO duskIO = new DuskIO(new StringReader(""), writer)) {
+            duskIO.print("Nice! I've marked this task as done:", "  [T][✗] read book");
+            duskIO.flush();
+            return writer.toString();
+        }
+    }
+
+    /**
+     * Prints a typical reply through a response DuskIO.
+     */
+    private static String printWithResponseBuffer() throws IOException {
+        try (DuskIO duskIO = DuskIO.forResponse()) {
+            duskIO.print("Nice! I've marked this task as done:", "  [T][✗] read book");
+            return duskIO.getResponse();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package dusk.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dusk.metrics.Metrics;
+import dusk.storage.Storage;
+import dusk.storage.StorageException;
+import dusk.task.TaskList;
+import dusk.task.Todo;
+
+/**
+ * Test cases for {@link WorkspaceManager}.
+ */
+public class WorkspaceManagerTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private Path directory;
+    private final AtomicLong clock = new AtomicLong();
+    private WorkspaceManager manager;
+
+    /**
+     * Creates a manager over a temporary directory with a large memory budget and a manual clock.
+     *
+     * @param tempDir the temporary directory provided by JUnit
+     */
+    @BeforeEach
+    public void setUp(@TempDir Path tempDir) {
+        directory = tempDir;
+        manager = new WorkspaceManager(directory, IDLE_TIMEOUT, Long.MAX_VALUE, clock::get);
+    }
+
+    /**
+     * Stops the workspaces' threads.
+     */
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Verifies that nothing is loaded until a workspace is first used, and that each workspace
+     * reads its own file.
+     */
+    @Test
+    public void loadsWorkspacesOnFirstUse() throws Exception {
+        seed(directory.resolve("data.txt"), "read book");
+        seed(directory.resolve("work.txt"), "file report", "book flights");
+        assertTrue(manager.getLoadedNames().isEmpty());
+
+        Workspace work = manager.acquire("work");
+        assertEquals(Set.of("work"), manager.getLoadedNames());
+        assertEquals(2, work.getExecutor().getSnapshot().size());
+        Workspace defaultWorkspace = manager.acquire(WorkspaceManager.DEFAULT_WORKSPACE);
+        assertEquals(1, defaultWorkspace.getExecutor().getSnapshot().size());
+        assertTrue(manager.getEstimatedBytes() > 0);
+    }
+
+    /**
+     * Verifies that acquiring a loaded workspace returns it from memory and counts a cache hit.
+     */
+    @Test
+    public void acquiringLoadedWorkspaceIsCacheHit() throws Exception {
+        long hits = Metrics.getInstance().counter("workspace.cache.hit").sum();
+        long misses = Metrics.getInstance().counter("workspace.cache.miss").sum();
+
+        Workspace first = manager.acquire("work");
+        first.release();
+        Workspace second = manager.acquire("work");
+
+        assertSame(first, second);
+        assertEquals(hits + 1, Metrics.getInstance().counter("workspace.cache.hit").sum());
+        assertEquals(misses + 1, Metrics.getInstance().counter("workspace.cache.miss").sum());
+    }
+
+    /**
+     * Verifies that idle workspaces are evicted, except the active one and those still held.
+     */
+    @Test
+    public void evictsIdleWorkspacesExceptActiveAndHeld() throws Exception {
+        manager.activate(WorkspaceManager.DEFAULT_WORKSPACE).release();
+        manager.acquire("idle").release();
+        Workspace held = manager.acquire("held");
+
+        assertEquals(0, manager.evict());
+        clock.addAndGet(IDLE_TIMEOUT.toNanos());
+        assertEquals(1, manager.evict());
+        assertEquals(Set.of(WorkspaceManager.DEFAULT_WORKSPACE, "held"), manager.getLoadedNames());
+
+        held.release();
+        assertEquals(1, manager.evict());
+        assertEquals(Set.of(WorkspaceManager.DEFAULT_WORKSPACE), manager.getLoadedNames());
+    }
+
+    /**
+     * Verifies that loading a workspace that takes the estimate over the budget evicts
+     * the least recently used workspace.
+     */
+    @Test
+    public void evictsLeastRecentlyUsedOverBudget() throws Exception {
+        manager.close();
+        manager = new WorkspaceManager(directory, IDLE_TIMEOUT, 300, clock::get);
+        seed(directory.resolve("first.txt"), "read book");
+        seed(directory.resolve("second.txt"), "read book");
+        seed(directory.resolve("third.txt"), "read book");
+
+        manager.acquire("first").release();
+        clock.incrementAndGet();
+        manager.acquire("second").release();
+        assertEquals(Set.of("second"), manager.getLoadedNames());
+
+        clock.incrementAndGet();
+        Workspace third = manager.acquire("third");
+        assertEquals(Set.of("third"), manager.getLoadedNames());
+        assertTrue(manager.getEstimatedBytes() <= 300);
+        third.release();
+    }
+
+    /**
+     * Verifies that a workspace loaded again after eviction sees the changes saved before it.
+     */
+    @Test
+    public void reloadsSavedChangesAfterEviction() throws Exception {
+        Workspace workspace = manager.acquire("work");
+        workspace.getExecutor().submit(() -> {
+            workspace.getTasks().addTask(new Todo("read book"));
+            return workspace.getStorage().saveTasksAsync(workspace.getTasks());
+        });
+        workspace.release();
+        clock.addAndGet(IDLE_TIMEOUT.toNanos());
+        assertEquals(1, manager.evict());
+        assertFalse(manager.hold(workspace));
+
+        Workspace reloaded = manager.acquire("work");
+        assertNotSame(workspace, reloaded);
+        assertEquals(1, reloaded.getExecutor().getSnapshot().size());
+        assertTrue(Files.exists(directory.resolve("work.txt")));
+    }
+
+    /**
+     * Verifies that workspaces loaded again while another thread evicts them always stay in memory
+     * while held, and are all stopped when the manager closes.
+     */
+    @Test
+    public void evictionDoesNotDropWorkspacesReloadedConcurrently() throws Exception {
+        clock.set(IDLE_TIMEOUT.toNanos());
+        Set<Workspace> seen = ConcurrentHashMap.newKeySet();
+        AtomicBoolean isDone = new AtomicBoolean();
+        Thread evictor = new Thread(() -> {
+            while (!isDone.get()) {
+                manager.evict();
+            }
+        });
+        ExecutorService acquirers = Executors.newFixedThreadPool(4);
+        evictor.start();
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(acquirers.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        Workspace workspace = manager.acquire("work");
+                        seen.add(workspace);
+                        boolean isLoaded = manager.getLoadedNames().contains("work");
+                        workspace.release();
+                        if (!isLoaded) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            isDone.set(true);
+            evictor.join();
+            acquirers.shutdown();
+        }
+
+        manager.close();
+        for (Workspace workspace : seen) {
+            assertFalse(manager.hold(workspace));
+        }
+    }
+
+    /**
+     * Verifies that names which are not plain file names are rejected.
+     */
+    @Test
+    public void rejectsInvalidNames() {
+        assertTrue(WorkspaceManager.isValidName("work-2024_q1"));
+        assertFalse(WorkspaceManager.isValidName("../work"));
+        assertFalse(WorkspaceManager.isValidName("Work"));
+        assertFalse(WorkspaceManager.isValidName("data"));
+        assertFalse(WorkspaceManager.isValidName(""));
+        assertThrows(IllegalArgumentException.class, () -> manager.acquire("a/b"));
+    }
+
+    /**
+     * Writes a data file holding todos with the given descriptions.
+     *
+     * @param file         the data file to write.
+     * @param descriptions the descriptions of the todos.
+     * @throws StorageException if the file cannot be written.
+     */
+    private static void seed(Path file, String... descriptions) throws StorageException {
+        TaskList tasks = new TaskList();
+        for (String description : descriptions) {
+            tasks.addTask(new Todo(description));
+        }
+        Storage storage = new Storage(file);
+        storage.saveTasks(tasks);
+        storage.shutdownExecutor();
+    }
+}